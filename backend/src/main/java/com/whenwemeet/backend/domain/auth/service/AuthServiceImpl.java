@@ -3,9 +3,10 @@ package com.whenwemeet.backend.domain.auth.service;
 import static com.whenwemeet.backend.global.exception.ErrorCode.*;
 
 import com.whenwemeet.backend.global.exception.type.UnAuthorizedException;
-import com.whenwemeet.backend.global.redis.RefreshRepository;
 import com.whenwemeet.backend.global.util.JwtUtil;
 import com.whenwemeet.backend.global.security.authentication.AuthenticationFactory;
+import com.whenwemeet.backend.global.security.authentication.JwtVerifier;
+import com.whenwemeet.backend.global.security.authentication.VerifiedToken;
 import com.whenwemeet.backend.global.security.dto.CustomOAuth2User;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -23,7 +24,7 @@ public class AuthServiceImpl implements AuthService {
 
     private final JwtUtil jwtUtil;
     private final AuthenticationFactory authenticationFactory;
-    private final RefreshRepository refreshRepository;
+    private final JwtVerifier jwtVerifier;
 
     @Value("${spring.jwt.name.refresh-token}")
     private String REFRESH_TOKEN_NAME;
@@ -34,19 +35,19 @@ public class AuthServiceImpl implements AuthService {
         String refreshToken = jwtUtil.tokenByCookie(request, REFRESH_TOKEN_NAME);
         if(refreshToken == null) throw new UnAuthorizedException(T001);
 
-        // 2. 토큰이 있으면??? 그 토큰이 아직 유효한지 확인한다.
-        if(!jwtUtil.validateToken(refreshToken) || !jwtUtil.verifyRefreshToken(refreshToken)) throw new UnAuthorizedException(T002);
+        // 2. 토큰이 있으면??? 그 토큰이 아직 유효한지 확인한다. (한 번만 파싱)
+        // 3. redis에 저장된 토큰과 일치할 때만 refreshToken 재발급 후 쿠키로 넘긴다. (비교+교체를 한 번의 왕복으로 처리)
+        VerifiedToken verified = jwtVerifier.verify(refreshToken)
+                .filter(token -> jwtUtil.rotateRefreshToken(token, refreshToken, response))
+                .orElseThrow(() -> new UnAuthorizedException(T002));
 
-        // 3. 모두 유효하다면 해당 토큰의 정보를 기반으로 새로운 Authentication 객체를 생성한다.
-        Authentication authentication = authenticationFactory.createAuthentication(refreshToken);
+        // 4. 해당 토큰의 정보를 기반으로 새로운 Authentication 객체를 생성한다.
+        Authentication authentication = authenticationFactory.createAuthentication(verified);
 
         CustomOAuth2User customOAuth2User = (CustomOAuth2User) authentication.getPrincipal();
 
-        // 4. 이후 refreshToken 재발급 후 쿠키로 넘긴다.
-        jwtUtil.generateRefreshToken(customOAuth2User.getId(), response);
-
         // 5. accessToken도 재발급해서 헤더로 넘긴다.
-        String accessToken = jwtUtil.generateAccessToken(customOAuth2User.getId());
+        String accessToken = jwtUtil.generateAccessToken(customOAuth2User);
         response.setHeader("Authorization", "Bearer " + accessToken);
     }
 
@@ -54,10 +55,8 @@ public class AuthServiceImpl implements AuthService {
     public void logout(HttpServletRequest request, HttpServletResponse response) {
         String refreshToken = jwtUtil.tokenByCookie(request, REFRESH_TOKEN_NAME);
 
-        if (refreshToken != null && jwtUtil.validateToken(refreshToken)) {
-            Long userId = jwtUtil.getUserId(refreshToken);
-            refreshRepository.deleteById(userId);
-        }
+        jwtVerifier.verify(refreshToken)
+                .ifPresent(verified -> jwtUtil.revokeRefreshToken(verified.userId()));
 
         ResponseCookie cookie = jwtUtil.expireRefreshTokenCookie(response);
 
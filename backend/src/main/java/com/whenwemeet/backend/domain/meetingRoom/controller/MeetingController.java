@@ -9,9 +9,11 @@ import com.whenwemeet.backend.global.security.dto.CustomOAuth2User;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -28,11 +30,12 @@ public class MeetingController {
             @AuthenticationPrincipal CustomOAuth2User user,
             @RequestParam(name = "page", defaultValue = "1") Long page,
             @RequestParam(name = "limit", defaultValue = "10") Long limit,
+            @RequestParam(name = "cursor", required = false) String cursor,
             @RequestParam(name = "type", defaultValue = "JOIN_DATE") SortType type,
             @RequestParam(name = "sort", defaultValue = "DESC") SortDirection sort) {
         if(user == null) return ResponseEntity.ok(CommonResponse.success());
 
-        PageResponse<List<MeetingListResponse>> response = meetingService.getAllMeeting(user.getId(), page, limit, type, sort);
+        PageResponse<List<MeetingListResponse>> response = meetingService.getAllMeeting(user.getId(), page, limit, cursor, type, sort);
         return ResponseEntity.ok(CommonResponse.success(response.data(), response.pagination()));
     }
 
@@ -71,6 +74,14 @@ public class MeetingController {
         return ResponseEntity.ok(CommonResponse.success(response));
     }
 
+    @GetMapping(value = "/{shareCode}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeMeetingRoomEvents(
+            @PathVariable("shareCode") String shareCode
+    ){
+        // 연결 직후 version 이벤트, 이후 변경이 커밋될 때마다 change 이벤트({version, type})를 전달
+        return meetingService.subscribeMeetingRoomEvents(shareCode);
+    }
+
     @DeleteMapping("/host")
     public ResponseEntity<CommonResponse<?>> deleteMeeting(
             @AuthenticationPrincipal CustomOAuth2User user,
@@ -0,0 +1,79 @@
+package com.whenwemeet.backend.domain.meetingRoom.dto.request;
+
+import com.whenwemeet.backend.domain.meetingRoom.dto.response.MeetingListRow;
+import com.whenwemeet.backend.global.exception.type.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static com.whenwemeet.backend.global.exception.ErrorCode.M006;
+
+/**
+ * 모임 목록을 keyset 방식으로 이어서 조회하기 위한 커서
+ * 마지막으로 받은 행의 정렬 값과 user_meeting_room id(동일 정렬 값 사이의 순서를 고정하는 tiebreaker)를 담습니다.
+ * 클라이언트에는 Base64(URL-safe) 문자열로만 전달합니다.
+ */
+public record MeetingListCursor(
+        SortType type,
+        SortDirection direction,
+        Long id,
+        String value
+) {
+
+    private static final String DELIMITER = "|";
+
+    public static MeetingListCursor from(MeetingListRow last, SortType type, SortDirection direction) {
+        String value = switch (type) {
+            case NAME -> last.name();
+            case JOIN_DATE -> last.joinAt().toString();
+            case MEETING_DATE -> last.meetingDate() == null ? "" : last.meetingDate().toString();
+        };
+        return new MeetingListCursor(type, direction, last.userMeetingRoomId(), value);
+    }
+
+    /**
+     * JOIN_DATE / MEETING_DATE 정렬의 기준 값 (MEETING_DATE가 비어있는 모임이면 null)
+     */
+    public LocalDateTime dateValue() {
+        return value.isEmpty() ? null : LocalDateTime.parse(value);
+    }
+
+    public String encode() {
+        // 이름에 구분자가 포함될 수 있으므로 정렬 값은 항상 마지막에 둡니다.
+        String raw = type.name() + DELIMITER + direction.name() + DELIMITER + id + DELIMITER + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor 이전 페이지에서 받은 커서
+     * @param type 이번 요청의 정렬 기준 (커서를 만든 요청과 다르면 예외)
+     * @param direction 이번 요청의 정렬 방향 (커서를 만든 요청과 다르면 예외)
+     */
+    public static MeetingListCursor decode(String cursor, SortType type, SortDirection direction) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length != 4) throw new BadRequestException(M006);
+
+            MeetingListCursor decoded = new MeetingListCursor(
+                    SortType.valueOf(parts[0]),
+                    SortDirection.valueOf(parts[1]),
+                    Long.parseLong(parts[2]),
+                    parts[3]);
+
+            if (decoded.type() != type || decoded.direction() != direction) {
+                throw new BadRequestException(M006);
+            }
+            if (type == SortType.JOIN_DATE && decoded.dateValue() == null) {
+                throw new BadRequestException(M006);
+            }
+            if (type == SortType.MEETING_DATE) decoded.dateValue();
+            return decoded;
+        } catch (BadRequestException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new BadRequestException(M006);
+        }
+    }
+}
@@ -3,5 +3,5 @@ package com.whenwemeet.backend.domain.meetingRoom.dto.response;
 
 public record EnterShareLinkResponse (
         String name,
-        Long memberNumber
+        Integer memberNumber
 ){}
@@ -7,7 +7,7 @@ import java.time.LocalDateTime;
 public record MeetingListResponse (
         String name,
         Role role,
-        Long memberNumber,
+        Integer memberNumber,
         LocalDateTime meetingDate,
         String shareCode
 ){}
\ No newline at end of file
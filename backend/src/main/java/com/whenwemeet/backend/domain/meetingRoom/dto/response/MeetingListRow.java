@@ -0,0 +1,22 @@
+package com.whenwemeet.backend.domain.meetingRoom.dto.response;
+
+import com.whenwemeet.backend.domain.meetingRoom.entity.enumType.Role;
+
+import java.time.LocalDateTime;
+
+/**
+ * 모임 목록 조회 결과 행 (다음 페이지 커서를 만들기 위한 정렬 키를 함께 담음)
+ */
+public record MeetingListRow(
+        Long userMeetingRoomId,
+        LocalDateTime joinAt,
+        String name,
+        Role role,
+        Integer memberNumber,
+        LocalDateTime meetingDate,
+        String shareCode
+) {
+    public MeetingListResponse toResponse() {
+        return new MeetingListResponse(name, role, memberNumber, meetingDate, shareCode);
+    }
+}
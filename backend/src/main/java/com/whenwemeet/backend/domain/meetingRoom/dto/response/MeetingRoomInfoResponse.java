@@ -1,5 +1,6 @@
 package com.whenwemeet.backend.domain.meetingRoom.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.whenwemeet.backend.domain.meetingRoom.entity.enumType.Role;
 import com.whenwemeet.backend.domain.user.dto.response.UserInfoResponse;
 
@@ -9,7 +10,7 @@ import java.time.LocalTime;
 import java.util.List;
 
 public record MeetingRoomInfoResponse(
-        Long id,
+        @JsonFormat(shape = JsonFormat.Shape.STRING) Long id, // TSID는 JS Number 범위를 넘으므로 문자열로 전달
         String name,
         Role role,
         Integer memberNumber,
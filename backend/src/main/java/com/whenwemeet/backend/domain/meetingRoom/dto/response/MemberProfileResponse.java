@@ -0,0 +1,9 @@
+package com.whenwemeet.backend.domain.meetingRoom.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+public record MemberProfileResponse(
+        @JsonFormat(shape = JsonFormat.Shape.STRING) Long userId, // TSID는 JS Number 범위를 넘으므로 문자열로 전달
+        String nickname,
+        String profileImgUrl
+) {}
@@ -1,8 +1,10 @@
 package com.whenwemeet.backend.domain.meetingRoom.entity;
 
 import com.whenwemeet.backend.global.entity.BaseEntity;
+import io.hypersistence.utils.hibernate.id.Tsid;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLDelete;
 
 import java.time.LocalDate;
@@ -15,11 +17,15 @@ import java.time.LocalTime;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-@SQLDelete(sql = "UPDATE meeting_room SET is_deleted = true, version = version + 1 WHERE id = ? AND version = ?")
+@DynamicUpdate // member_count, share_count, share_code는 벌크 UPDATE로만 변경하므로, 엔티티 수정 시 변경된 컬럼만 UPDATE 해서 덮어쓰지 않도록 함
+@SQLDelete(sql = "UPDATE meeting_room SET is_deleted = true, updated_at = CURRENT_TIMESTAMP, version = version + 1 WHERE id = ? AND version = ?")
 public class MeetingRoom extends BaseEntity {
 
+    // 공유코드 하나로 입장할 수 있는 인원 수 (모두 사용되면 공유코드를 새로 발급)
+    public static final int SHARE_COUNT = 30;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     @Column(name = "id")
     private Long id;
 
@@ -41,9 +47,15 @@ public class MeetingRoom extends BaseEntity {
     @Column(name = "share_code")
     private String shareCode;
 
+    // 남은 입장 가능 횟수 (입장 시 MeetingRoomRepository의 조건부 UPDATE로만 감소/재발급)
     @Builder.Default
     @Column(name = "share_count")
-    private Integer shareCount = 30;
+    private Integer shareCount = SHARE_COUNT;
+
+    // 참여 인원 수 (입장/퇴장/게스트 병합 시 MeetingRoomRepository의 벌크 UPDATE로 원자적으로 증감)
+    @Builder.Default
+    @Column(name = "member_count", nullable = false)
+    private Integer memberCount = 0;
 
     @Version
     @Column(name = "version")
@@ -56,16 +68,4 @@ public class MeetingRoom extends BaseEntity {
         if(startTime != null) this.startTime = startTime;
         if(endTime != null) this.endTime = endTime;
     }
-
-    public void minusShareCount(){
-        this.shareCount--;
-    }
-
-    public void updateShareCode(String shareCode){
-        this.shareCode = shareCode;
-    }
-
-    public void initializeShareCount(){
-        this.shareCount = 30;
-    }
 }
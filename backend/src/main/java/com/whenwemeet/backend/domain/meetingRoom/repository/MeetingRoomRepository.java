@@ -1,16 +1,93 @@
 package com.whenwemeet.backend.domain.meetingRoom.repository;
 
-import com.whenwemeet.backend.domain.meetingRoom.dto.response.MeetingRoomVersionResponse;
 import com.whenwemeet.backend.domain.meetingRoom.entity.MeetingRoom;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MeetingRoomRepository extends JpaRepository<MeetingRoom, Long> {
 
     Optional<MeetingRoom> findAllByShareCode(String shareUrl);
 
-    boolean existsByShareCode(String shareUrl);
+    List<MeetingRoom> findAllByShareCodeIn(Collection<String> shareCodes);
 
-    Optional<MeetingRoomVersionResponse> findVersionByShareCode(String shareCode);
+    @Query("""
+            select mr.memberCount
+            from MeetingRoom mr
+            where mr.id = :meetingRoomId""")
+    Optional<Integer> findMemberCountById(Long meetingRoomId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update MeetingRoom mr
+            set mr.memberCount = mr.memberCount + :delta
+            where mr.id = :meetingRoomId""")
+    void addMemberCount(Long meetingRoomId, int delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update MeetingRoom mr
+            set mr.memberCount = mr.memberCount - 1
+            where mr.id in :meetingRoomIds""")
+    void decreaseMemberCountIn(Collection<Long> meetingRoomIds);
+
+    /**
+     * 공유코드가 그대로이고 남은 입장 횟수가 2 이상일 때만 1 감소시킵니다.
+     * @return 0이면 마지막 입장이거나(재발급 필요) 이미 재발급된 공유코드
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update MeetingRoom mr
+            set mr.shareCount = mr.shareCount - 1
+            where mr.id = :meetingRoomId and mr.shareCode = :shareCode and mr.shareCount > 1""")
+    int decreaseShareCount(Long meetingRoomId, String shareCode);
+
+    /**
+     * 공유코드가 그대로이고 마지막 입장일 때만 공유코드를 재발급하고 입장 횟수를 초기화합니다.
+     * 같은 행에 대한 UPDATE는 행 잠금으로 직렬화되므로, 동시에 들어와도 하나의 요청만 재발급에 성공합니다.
+     * @return 0이면 다른 요청이 먼저 재발급한 공유코드
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update MeetingRoom mr
+            set mr.shareCode = :nextShareCode, mr.shareCount = :shareCount
+            where mr.id = :meetingRoomId and mr.shareCode = :shareCode and mr.shareCount <= 1""")
+    int rotateShareCode(Long meetingRoomId, String shareCode, String nextShareCode, int shareCount);
+
+    /**
+     * 보관 기간이 지난 미팅룸 id를 lastId 이후부터 id 순으로 조회합니다. (보관 정책 정리 작업의 keyset 청크)
+     * 1) 모임 날짜가 확정됐다면 모임 날짜가 meetingDateCutoff 이전
+     * 2) 확정되지 않았다면 선택 가능한 마지막 날짜(startDate + 최대 조회 기간)가 지난 미팅룸, 즉 startDate가 startDateCutoff 이전
+     * 3) 삭제(Soft Delete)된 지 오래된 미팅룸
+     */
+    @Query("""
+            select mr.id
+            from MeetingRoom mr
+            where mr.id > :lastId
+              and (mr.meetingDate < :meetingDateCutoff
+                   or (mr.meetingDate is null and mr.startDate < :startDateCutoff)
+                   or (mr.isDeleted = true and mr.updatedAt < :deletedCutoff))
+            order by mr.id""")
+    List<Long> findExpiredIds(Long lastId, LocalDateTime meetingDateCutoff, LocalDate startDateCutoff,
+                              LocalDateTime deletedCutoff, Pageable pageable);
+
+    @Query("""
+            select mr.shareCode
+            from MeetingRoom mr
+            where mr.id in :meetingRoomIds""")
+    List<String> findShareCodesByIdIn(Collection<Long> meetingRoomIds);
+
+    // @SQLDelete(Soft Delete)를 거치지 않고 행을 실제로 삭제합니다. (보관 정책 정리 작업 전용)
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            delete MeetingRoom mr
+            where mr.id in :meetingRoomIds""")
+    int deleteAllByIdIn(Collection<Long> meetingRoomIds);
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -24,7 +25,6 @@ public interface UserMeetingRoomRepository extends JpaRepository<UserMeetingRoom
 
     HashSet<UserMeetingRoom> findAllByUser(User user);
 
-    Integer countByMeetingRoom(MeetingRoom meetingRoom);
     
     boolean existsByUserAndMeetingRoom(User user, MeetingRoom meetingRoom);
 
@@ -38,7 +38,13 @@ public interface UserMeetingRoomRepository extends JpaRepository<UserMeetingRoom
     @Query("""
         DELETE FROM UserMeetingRoom umr
         WHERE umr.meetingRoom.id = :meetingRoomId AND umr.user.id= :userId""")
-    void deleteUserInMeetingRoom(Long userId, Long meetingRoomId);
+    int deleteUserInMeetingRoom(Long userId, Long meetingRoomId);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            delete from UserMeetingRoom umr
+            where umr.meetingRoom.id in :meetingRoomIds""")
+    int deleteAllUserInMeetingRooms(Collection<Long> meetingRoomIds);
 
     @Query("""
             select umr.meetingRoom.id
@@ -53,14 +59,27 @@ public interface UserMeetingRoomRepository extends JpaRepository<UserMeetingRoom
             """)
     void deleteAllByUserId(Long userId);
 
-    @Modifying(clearAutomatically = true)
-    @Query(value = """
-           update UserMeetingRoom umr
-           set umr.user = :user
-           where umr.user = :guestUser
-           and umr.meetingRoom.id not in :userMeetingRoomIdSet
-           """)
-    void updateAllGuestUserToUser(User user, User guestUser, HashSet<Long> userMeetingRoomIdSet);
+    // 게스트와 OAuth 유저가 모두 참여중인 미팅룸 (병합 시 게스트 매핑을 삭제할 대상)
+    @Query("""
+            select umr.meetingRoom.id
+            from UserMeetingRoom umr
+            where umr.user.id = :guestUserId
+            and exists (select 1 from UserMeetingRoom other
+                        where other.user.id = :userId and other.meetingRoom.id = umr.meetingRoom.id)""")
+    List<Long> findSharedMeetingRoomIds(Long guestUserId, Long userId);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            delete from UserMeetingRoom umr
+            where umr.user.id = :userId and umr.meetingRoom.id in :meetingRoomIds""")
+    int deleteUserInMeetingRooms(Long userId, Collection<Long> meetingRoomIds);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            update UserMeetingRoom umr
+            set umr.user = :user
+            where umr.user.id = :guestUserId""")
+    int reassignUser(Long guestUserId, User user);
 
 
 
@@ -3,18 +3,22 @@ package com.whenwemeet.backend.domain.meetingRoom.repository.custom;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
-import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.whenwemeet.backend.domain.meetingRoom.dto.request.MeetingListCursor;
 import com.whenwemeet.backend.domain.meetingRoom.dto.request.SortDirection;
 import com.whenwemeet.backend.domain.meetingRoom.dto.request.SortType;
 import com.whenwemeet.backend.domain.meetingRoom.dto.response.EnterShareLinkResponse;
-import com.whenwemeet.backend.domain.meetingRoom.dto.response.MeetingListResponse;
+import com.whenwemeet.backend.domain.meetingRoom.dto.response.MeetingListRow;
+import com.whenwemeet.backend.domain.meetingRoom.dto.response.MemberProfileResponse;
 import com.whenwemeet.backend.domain.meetingRoom.entity.UserMeetingRoom;
 import com.whenwemeet.backend.domain.meetingRoom.entity.enumType.Role;
 import com.whenwemeet.backend.domain.user.dto.response.UserInfoResponse;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -32,27 +36,30 @@ public class UserMeetingRoomCustomRepositoryImpl implements UserMeetingRoomCusto
 
 
     @Override
-    public List<MeetingListResponse> findAllByUserId(Long userId, Long offset, Long limit, SortType type, SortDirection direction) {
-        return factory
+    public List<MeetingListRow> findAllByUserId(Long userId, MeetingListCursor cursor, Long offset, Long limit, SortType type, SortDirection direction) {
+        JPAQuery<MeetingListRow> query = factory
                 .select(
-                        Projections.constructor(MeetingListResponse.class,
+                        Projections.constructor(MeetingListRow.class,
+                                userMeetingRoom.id,
+                                userMeetingRoom.joinAt,
                                 meetingRoom.name,
                                 userMeetingRoom.role,
-                                JPAExpressions
-                                        .select(userMeetingRoom.count())
-                                        .from(userMeetingRoom)
-                                        .where(userMeetingRoom.meetingRoom.id.eq(meetingRoom.id)),
+                                meetingRoom.memberCount,
                                 meetingRoom.meetingDate,
                                 meetingRoom.shareCode
                         )
                 )
                 .from(userMeetingRoom)
-                .leftJoin(userMeetingRoom.meetingRoom, meetingRoom)
-                .where(userMeetingRoom.user.id.eq(userId), meetingRoom.isDeleted.isFalse())
+                .join(userMeetingRoom.meetingRoom, meetingRoom)
+                .where(userMeetingRoom.user.id.eq(userId),
+                        meetingRoom.isDeleted.isFalse(),
+                        afterCursor(cursor, type, direction))
                 .orderBy(createOrderSpecifier(type, direction))
-                .offset(offset)
-                .limit(limit)
-                .fetch();
+                .limit(limit);
+
+        // 커서가 없는 요청(이전 클라이언트의 page 파라미터)만 offset을 사용
+        if (cursor == null && offset > 0) query.offset(offset);
+        return query.fetch();
     }
 
     @Override
@@ -83,6 +90,22 @@ public class UserMeetingRoomCustomRepositoryImpl implements UserMeetingRoomCusto
                 .fetch();
     }
 
+    @Override
+    public List<MemberProfileResponse> findMemberProfilesByMeetingRoomId(Long id) {
+        return factory
+                .select(Projections.constructor(
+                        MemberProfileResponse.class,
+                        user.id,
+                        user.nickname,
+                        user.profileImgUrl
+                ))
+                .from(userMeetingRoom)
+                .join(userMeetingRoom.user, user)
+                .where(userMeetingRoom.meetingRoom.id.eq(id))
+                .orderBy(user.id.asc())
+                .fetch();
+    }
+
     @Override
     public Optional<UserMeetingRoom> findByUserIdAndMeetingRoomIdWithShareCode(Long userId, String shareCode) {
         UserMeetingRoom umr =  factory
@@ -101,18 +124,47 @@ public class UserMeetingRoomCustomRepositoryImpl implements UserMeetingRoomCusto
                 .select(Projections.constructor(
                         EnterShareLinkResponse.class,
                         meetingRoom.name,
-                        userMeetingRoom.count()
+                        meetingRoom.memberCount
                 ))
-                .from(userMeetingRoom)
-                .join(userMeetingRoom.meetingRoom, meetingRoom)
+                .from(meetingRoom)
                 .where(meetingRoom.isDeleted.eq(false), meetingRoom.shareCode.eq(shareCode))
-                .groupBy(meetingRoom.id)
                 .fetchOne();
 
         return Optional.ofNullable(response);
     }
 
 
+    /**
+     * 커서 이후의 행만 남기는 keyset 조건
+     * (정렬 값, user_meeting_room id) 순서로 비교하며, MEETING_DATE가 비어있는 모임은 방향과 관계없이 마지막에 위치합니다.
+     */
+    private BooleanExpression afterCursor(MeetingListCursor cursor, SortType type, SortDirection direction) {
+        if (cursor == null) return null;
+
+        boolean asc = SortDirection.ASC.equals(direction);
+        BooleanExpression idAfter = asc ? userMeetingRoom.id.gt(cursor.id()) : userMeetingRoom.id.lt(cursor.id());
+
+        return switch (type) {
+            case NAME -> {
+                String name = cursor.value();
+                yield (asc ? meetingRoom.name.gt(name) : meetingRoom.name.lt(name))
+                        .or(meetingRoom.name.eq(name).and(idAfter));
+            }
+            case JOIN_DATE -> {
+                LocalDateTime joinAt = cursor.dateValue();
+                yield (asc ? userMeetingRoom.joinAt.gt(joinAt) : userMeetingRoom.joinAt.lt(joinAt))
+                        .or(userMeetingRoom.joinAt.eq(joinAt).and(idAfter));
+            }
+            case MEETING_DATE -> {
+                LocalDateTime meetingDate = cursor.dateValue();
+                if (meetingDate == null) yield meetingRoom.meetingDate.isNull().and(idAfter);
+                yield (asc ? meetingRoom.meetingDate.gt(meetingDate) : meetingRoom.meetingDate.lt(meetingDate))
+                        .or(meetingRoom.meetingDate.eq(meetingDate).and(idAfter))
+                        .or(meetingRoom.meetingDate.isNull());
+            }
+        };
+    }
+
     private OrderSpecifier<?>[] createOrderSpecifier(SortType type, SortDirection direction) {
 
         List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
@@ -122,8 +174,10 @@ public class UserMeetingRoomCustomRepositoryImpl implements UserMeetingRoomCusto
         switch (type){
             case NAME -> orderSpecifiers.add(new OrderSpecifier<>(order, meetingRoom.name));
             case JOIN_DATE -> orderSpecifiers.add(new OrderSpecifier<>(order, userMeetingRoom.joinAt));
-            case MEETING_DATE -> orderSpecifiers.add(new OrderSpecifier<>(order, meetingRoom.meetingDate));
+            case MEETING_DATE -> orderSpecifiers.add(new OrderSpecifier<>(order, meetingRoom.meetingDate).nullsLast());
         }
+        // 정렬 값이 같은 행 사이의 순서를 고정 (keyset 커서의 tiebreaker)
+        orderSpecifiers.add(new OrderSpecifier<>(order, userMeetingRoom.id));
 
         return orderSpecifiers.toArray(OrderSpecifier[]::new);
     }
@@ -5,12 +5,13 @@ import com.whenwemeet.backend.domain.meetingRoom.dto.response.*;
 import com.whenwemeet.backend.global.response.PageResponse;
 import com.whenwemeet.backend.global.security.dto.CustomOAuth2User;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
 public interface MeetingService {
 
-    PageResponse<List<MeetingListResponse>> getAllMeeting (Long userId, Long page, Long limit, SortType type, SortDirection direction);
+    PageResponse<List<MeetingListResponse>> getAllMeeting (Long userId, Long page, Long limit, String cursor, SortType type, SortDirection direction);
 
     CreateMeetingResponse addMeeting(CustomOAuth2User user, MeetingCreateRequest request, HttpServletResponse response);
 
@@ -26,5 +27,7 @@ public interface MeetingService {
 
     MeetingRoomVersionResponse getMeetingRoomVersion(String shareCode);
 
+    SseEmitter subscribeMeetingRoomEvents(String shareCode);
+
     void leaveMeeting(CustomOAuth2User user, DeleteRoomRequest request);
 }
@@ -7,13 +7,24 @@ import com.whenwemeet.backend.domain.meetingRoom.entity.UserMeetingRoom;
 import com.whenwemeet.backend.domain.meetingRoom.entity.enumType.Role;
 import com.whenwemeet.backend.domain.meetingRoom.repository.MeetingRoomRepository;
 import com.whenwemeet.backend.domain.meetingRoom.repository.UserMeetingRoomRepository;
+import com.whenwemeet.backend.domain.meetingRoom.service.cache.MeetingRoomSnapshot;
+import com.whenwemeet.backend.domain.meetingRoom.service.cache.MeetingRoomSnapshotCache;
+import com.whenwemeet.backend.domain.meetingRoom.service.code.ShareCodeAllocator;
+import com.whenwemeet.backend.domain.meetingRoom.service.event.RoomEventBroadcaster;
+import com.whenwemeet.backend.domain.schedule.repository.ScheduleRepository;
 import com.whenwemeet.backend.domain.schedule.repository.UnavailableRepository;
+import com.whenwemeet.backend.domain.schedule.service.availability.RoomAvailabilityStore;
+import com.whenwemeet.backend.domain.schedule.service.write.ScheduleWriteBehindQueue;
 import com.whenwemeet.backend.domain.user.dto.response.UserInfoResponse;
 import com.whenwemeet.backend.domain.user.entity.User;
 import com.whenwemeet.backend.domain.user.repository.UserRepository;
+import com.whenwemeet.backend.global.datasource.PrimaryReader;
 import com.whenwemeet.backend.global.entity.Pagination;
 import com.whenwemeet.backend.global.exception.type.DuplicateException;
 import com.whenwemeet.backend.global.exception.type.NotFoundException;
+import com.whenwemeet.backend.global.redis.RecentWriteStore;
+import com.whenwemeet.backend.global.redis.RoomChangeCounter;
+import com.whenwemeet.backend.global.redis.RoomChangeType;
 import com.whenwemeet.backend.global.response.PageResponse;
 import com.whenwemeet.backend.global.security.dto.CustomOAuth2User;
 import jakarta.servlet.http.HttpServletResponse;
@@ -21,10 +32,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.UUID;
 
 import static com.whenwemeet.backend.global.exception.ErrorCode.*;
 
@@ -32,34 +43,51 @@ import static com.whenwemeet.backend.global.exception.ErrorCode.*;
 @Service
 @RequiredArgsConstructor
 public class MeetingServiceImpl implements MeetingService{
-    private static final int MAX_RETRY = 10;
     private final UserRepository userRepository;
     private final MeetingRoomRepository meetingRoomRepository;
     private final UserMeetingRoomRepository userMeetingRoomRepository;
     private final UnavailableRepository unavailableRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final RoomAvailabilityStore roomAvailabilityStore;
+    private final RoomChangeCounter roomChangeCounter;
+    private final MeetingRoomSnapshotCache meetingRoomSnapshotCache;
+    private final RoomEventBroadcaster roomEventBroadcaster;
+    private final ShareCodeAllocator shareCodeAllocator;
+    private final ScheduleWriteBehindQueue scheduleWriteBehindQueue;
+    private final RecentWriteStore recentWriteStore;
+    private final PrimaryReader primaryReader;
 
     @Override
-    public PageResponse<List<MeetingListResponse>> getAllMeeting(Long userId, Long page, Long limit, SortType type, SortDirection direction) {
+    @Transactional(readOnly = true)
+    public PageResponse<List<MeetingListResponse>> getAllMeeting(Long userId, Long page, Long limit, String cursor, SortType type, SortDirection direction) {
         // 1) 해당 유저가 존재하는지 확인
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException(U001));
 
-        // 2) offset 계산 (page는 1부터 시작)
-        long offset = (page - 1) * limit;
+        // 2) 커서가 있으면 keyset으로 이어서 조회, 없으면 page로 offset 계산 (page는 1부터 시작)
+        MeetingListCursor after = cursor == null || cursor.isBlank()
+                ? null
+                : MeetingListCursor.decode(cursor, type, direction);
+        long offset = after == null ? (page - 1) * limit : 0;
 
-        // 3) 해당 유저가 참여중인 미팅룸 전체 조회
-        List<MeetingListResponse> meetingList = userMeetingRoomRepository.findAllByUserId(user.getId(), offset, limit, type, direction);
+        // 3) 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<MeetingListRow> rows = userMeetingRoomRepository.findAllByUserId(user.getId(), after, offset, limit + 1, type, direction);
+        boolean hasMore = rows.size() > limit;
+        if (hasMore) rows = rows.subList(0, limit.intValue());
 
-        // 4) 전체 개수 조회
-        long totalItems = meetingList.size();
+        // 4) 전체 개수 (count 쿼리 없이 사용자에 비정규화된 참여 미팅룸 수 사용)
+        long totalItems = user.getMeetingRoomCount();
 
         // 5) 페이지네이션 정보 계산
         long totalPages = (long) Math.ceil((double) totalItems / limit);
-        boolean hasMore = page < totalPages;
+        String nextCursor = hasMore
+                ? MeetingListCursor.from(rows.get(rows.size() - 1), type, direction).encode()
+                : null;
 
-        Pagination pagination = new Pagination(page, totalPages, totalItems, hasMore);
+        // 커서로 조회했다면 page는 의미가 없으므로 현재 페이지는 비워서 반환
+        Pagination pagination = new Pagination(after == null ? page : null, totalPages, totalItems, hasMore, nextCursor);
 
-        return new PageResponse<>(meetingList, pagination);
+        return new PageResponse<>(rows.stream().map(MeetingListRow::toResponse).toList(), pagination);
     }
 
     @Override
@@ -72,7 +100,8 @@ public class MeetingServiceImpl implements MeetingService{
                 .startDate(rq.startDate())
                 .startTime(rq.startTime())
                 .endTime(rq.endTime())
-                .shareCode(generateShareCode())
+                .shareCode(shareCodeAllocator.allocate())
+                .memberCount(1) // 호스트
                 .build();
 
         // 2) 미팅룸 저장
@@ -82,12 +111,13 @@ public class MeetingServiceImpl implements MeetingService{
         UserMeetingRoom umr = UserMeetingRoom.builder()
                 .role(Role.HOST)
                 .joinAt(LocalDateTime.now())
-                .user(user.getUser())
+                .user(userRepository.getReferenceById(user.getId())) // principal에는 엔티티가 없으므로 프록시로 참조 (SELECT 없음)
                 .meetingRoom(mr)
                 .build();
 
-        // 5) 매칭정보 저장
+        // 5) 매칭정보 저장 및 참여 미팅룸 수 증가
         userMeetingRoomRepository.save(umr);
+        userRepository.addMeetingRoomCount(user.getId(), 1);
 
         return new CreateMeetingResponse(mr.getShareCode());
     }
@@ -113,6 +143,8 @@ public class MeetingServiceImpl implements MeetingService{
                 request.startTime(),
                 request.endTime()
         );
+        meetingRoomSnapshotCache.evictAfterCommit(umr.getMeetingRoom().getShareCode());
+        roomChangeCounter.increaseAfterCommit(umr.getMeetingRoom().getId(), RoomChangeType.SETTINGS);
     }
 
     @Override
@@ -122,10 +154,16 @@ public class MeetingServiceImpl implements MeetingService{
         UserMeetingRoom umr = userMeetingRoomRepository.findByUserIdAndMeetingRoomIdisHost(userId, request.id(), Role.HOST)
                         .orElseThrow(() -> new NotFoundException(M002));
 
-        // 2) 삭제 진행 (Soft Delete)
+        // 2) 삭제 진행 (Soft Delete), DB 반영을 기다리는 일정도 폐기
+        scheduleWriteBehindQueue.discardRoom(request.id());
+        userRepository.decreaseMeetingRoomCountIn(List.of(request.id()));
         userMeetingRoomRepository.deleteAllUserInMeetingRoom(request.id());
         unavailableRepository.deleteAllTimeInMeetingRoom(request.id());
+        scheduleRepository.deleteAllScheduleInMeetingRoom(request.id());
         meetingRoomRepository.delete(umr.getMeetingRoom());
+        roomAvailabilityStore.evictAfterCommit(request.id());
+        meetingRoomSnapshotCache.evictAfterCommit(umr.getMeetingRoom().getShareCode());
+        roomChangeCounter.increaseAfterCommit(request.id(), RoomChangeType.SETTINGS);
     }
 
     @Override
@@ -135,12 +173,19 @@ public class MeetingServiceImpl implements MeetingService{
         UserMeetingRoom umr = userMeetingRoomRepository.findByUserIdAndMeetingRoomIdisHost(user.getId(), request.id(), Role.MEMBER)
                 .orElseThrow(() -> new NotFoundException(M002));
 
-        userMeetingRoomRepository.deleteUserInMeetingRoom(user.getId(), request.id());
+        scheduleWriteBehindQueue.discard(user.getId(), request.id());
+        int deleted = userMeetingRoomRepository.deleteUserInMeetingRoom(user.getId(), request.id());
+        meetingRoomRepository.addMemberCount(request.id(), -deleted);
+        userRepository.addMeetingRoomCount(user.getId(), -deleted);
 
         unavailableRepository.deleteTimeInMeetingRoom(user.getId(), request.id());
+        scheduleRepository.deleteScheduleInMeetingRoom(user.getId(), request.id());
+        roomAvailabilityStore.removeMemberAfterCommit(request.id(), user.getId());
+        roomChangeCounter.increaseAfterCommit(request.id(), RoomChangeType.MEMBER);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public EnterShareLinkResponse getMeetingRoomSummary(String code) {
         return userMeetingRoomRepository.findNameAndMemberNumberByShareCode(code)
                 .orElseThrow(() -> new NotFoundException(M005));
@@ -163,27 +208,51 @@ public class MeetingServiceImpl implements MeetingService{
             throw new DuplicateException(M004);
         }
 
-        // 4) 유저-미팅룸 객체 생성
+        // 4) 입장 횟수 차감 (엔티티를 수정하지 않고 조건부 UPDATE로 처리하여 동시 입장 시 낙관적 락 충돌이 없도록 함)
+        //    마지막 입장이라면 공유코드를 새롭게 발급 (조건부 UPDATE이므로 재발급은 한 번만 성공)
+        if(meetingRoomRepository.decreaseShareCount(room.getId(), shareCode) == 0){
+            String nextShareCode = shareCodeAllocator.allocate();
+            if(meetingRoomRepository.rotateShareCode(room.getId(), shareCode, nextShareCode, MeetingRoom.SHARE_COUNT) == 0){
+                // 다른 입장 요청이 먼저 공유코드를 재발급함
+                throw new NotFoundException(M005);
+            }
+            meetingRoomSnapshotCache.evictAfterCommit(shareCode);
+        }
+
+        // 5) 유저-미팅룸 객체 생성 및 저장
         UserMeetingRoom umr = UserMeetingRoom.builder()
                 .role(Role.MEMBER)
                 .joinAt(LocalDateTime.now())
                 .user(user)
                 .meetingRoom(room)
                 .build();
-
-        // 5) 저장
         userMeetingRoomRepository.save(umr);
 
-        // 6) shareCount 수정 (만약 0이 됐다면 shareCode 새롭게 발급)
-        room.minusShareCount();
-        if(room.getShareCount() == 0){
-            room.updateShareCode(generateShareCode());
-            room.initializeShareCount();
-        }
+        // 6) 참여 인원 수, 사용자의 참여 미팅룸 수 증가
+        meetingRoomRepository.addMemberCount(room.getId(), 1);
+        userRepository.addMeetingRoomCount(user.getId(), 1);
+
+        // 7) 미팅룸 변경 카운터 증가 (멤버 변경)
+        roomChangeCounter.increaseAfterCommit(room.getId(), RoomChangeType.MEMBER);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public MeetingRoomInfoResponse getMeetingRoomInfoByShareCode(CustomOAuth2User user, String ShareCode) {
+        // 0) 변경 카운터를 데이터보다 먼저 읽음
+        //    (조회 도중 변경이 커밋되면 응답 데이터보다 낮은 버전이 전달되어, 다음 폴링에서 다시 조회하게 됨)
+        MeetingRoomSnapshot room = meetingRoomSnapshotCache.findByShareCode(ShareCode)
+                .orElseThrow(() -> new NotFoundException(M003));
+        long version = roomChangeCounter.current(room.id());
+
+        // 0-1) 최근에 변경된 미팅룸이라면 읽은 버전보다 오래된 데이터를 응답하지 않도록 replica 대신 primary에서 조회
+        if (recentWriteStore.isRecentRoom(room.id())) {
+            return primaryReader.read(() -> loadMeetingRoomInfo(user, ShareCode, version));
+        }
+        return loadMeetingRoomInfo(user, ShareCode, version);
+    }
+
+    private MeetingRoomInfoResponse loadMeetingRoomInfo(CustomOAuth2User user, String ShareCode, long version) {
         // 1) 요청이 들어온 user와 meetingroom 권한체크
         UserMeetingRoom umr = userMeetingRoomRepository.findByUserIdAndMeetingRoomIdWithShareCode(user.getId(), ShareCode)
                 .orElseThrow(() -> new NotFoundException(M002));
@@ -202,28 +271,26 @@ public class MeetingServiceImpl implements MeetingService{
                 umr.getMeetingRoom().getStartDate(),
                 umr.getMeetingRoom().getStartTime(),
                 umr.getMeetingRoom().getEndTime(),
-                umr.getMeetingRoom().getVersion()
+                version
         );
     }
 
     @Override
     public MeetingRoomVersionResponse getMeetingRoomVersion(String shareCode) {
-        return meetingRoomRepository.findVersionByShareCode(shareCode)
+        // 공유코드 -> 미팅룸 id는 인메모리 캐시에서, 버전은 Redis 변경 카운터에서 조회 (폴링이 DB까지 도달하지 않음)
+        MeetingRoomSnapshot room = meetingRoomSnapshotCache.findByShareCode(shareCode)
                 .orElseThrow(() -> new NotFoundException(M003));
+
+        return new MeetingRoomVersionResponse(roomChangeCounter.current(room.id()));
     }
 
-    private String generateShareCode() {
-        for(int i = 0; i < MAX_RETRY; i++){
-            String code = UUID.randomUUID()
-                    .toString()
-                    .replace("-", "")
-                    .substring(0, 13);
+    @Override
+    public SseEmitter subscribeMeetingRoomEvents(String shareCode) {
+        MeetingRoomSnapshot room = meetingRoomSnapshotCache.findByShareCode(shareCode)
+                .orElseThrow(() -> new NotFoundException(M003));
 
-            if(!meetingRoomRepository.existsByShareCode(code)){
-                return code;
-            }
-        }
-        throw new NotFoundException(T003);
+        return roomEventBroadcaster.subscribe(room.id(), roomChangeCounter.current(room.id()));
     }
+
     
 }
@@ -0,0 +1,35 @@
+package com.whenwemeet.backend.domain.meetingRoom.service.cache;
+
+import com.whenwemeet.backend.domain.meetingRoom.entity.MeetingRoom;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 조회 전용 미팅룸 정보 (불변)
+ * 엔티티와 달리 영속성 컨텍스트 밖에서 공유해도 안전하므로 캐시에 보관합니다.
+ */
+public record MeetingRoomSnapshot(
+        Long id,
+        String name,
+        LocalDate startDate,
+        LocalTime startTime,
+        LocalTime endTime,
+        LocalDateTime meetingDate,
+        String shareCode,
+        Long version
+) {
+
+    public static MeetingRoomSnapshot from(MeetingRoom meetingRoom) {
+        return new MeetingRoomSnapshot(
+                meetingRoom.getId(),
+                meetingRoom.getName(),
+                meetingRoom.getStartDate(),
+                meetingRoom.getStartTime(),
+                meetingRoom.getEndTime(),
+                meetingRoom.getMeetingDate(),
+                meetingRoom.getShareCode(),
+                meetingRoom.getVersion());
+    }
+}
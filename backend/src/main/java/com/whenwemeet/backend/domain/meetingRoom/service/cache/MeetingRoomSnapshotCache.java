@@ -0,0 +1,77 @@
+package com.whenwemeet.backend.domain.meetingRoom.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.whenwemeet.backend.domain.meetingRoom.repository.MeetingRoomRepository;
+import com.whenwemeet.backend.global.datasource.PrimaryReader;
+import com.whenwemeet.backend.global.util.TransactionUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공유코드 -> 미팅룸 스냅샷 인메모리 캐시
+ * 1) 크기와 TTL로 제한하며, 설정 변경/삭제/공유코드 재발급 시 커밋 이후 해당 공유코드를 폐기합니다.
+ * 2) 다른 서버 인스턴스에서 발생한 변경은 TTL 이내에 반영됩니다.
+ * 3) 조회/폐기 통계는 Micrometer(cache.* 메트릭, cache=meetingRoom.shareCode)로 노출합니다.
+ */
+@Component
+public class MeetingRoomSnapshotCache {
+
+    private static final String CACHE_NAME = "meetingRoom.shareCode";
+
+    private final MeetingRoomRepository meetingRoomRepository;
+    private final PrimaryReader primaryReader;
+    private final Cache<String, MeetingRoomSnapshot> cache;
+
+    // 조회 도중 폐기가 커밋됐다면, 읽어온 스냅샷은 이번 조회에만 사용하고 보관하지 않습니다.
+    private final AtomicLong writeGeneration = new AtomicLong();
+
+    public MeetingRoomSnapshotCache(MeetingRoomRepository meetingRoomRepository,
+                                    PrimaryReader primaryReader,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${meeting.share-code-cache.max-size}") long maxSize,
+                                    @Value("${meeting.share-code-cache.ttl-seconds}") long ttlSeconds) {
+        this.meetingRoomRepository = meetingRoomRepository;
+        this.primaryReader = primaryReader;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 공유코드로 미팅룸 스냅샷을 조회합니다. 캐시에 없다면 DB에서 읽어 보관합니다. (존재하지 않는 공유코드는 보관하지 않음)
+     */
+    public Optional<MeetingRoomSnapshot> findByShareCode(String shareCode) {
+        MeetingRoomSnapshot cached = cache.getIfPresent(shareCode);
+        if (cached != null) return Optional.of(cached);
+
+        // 보관되는 값이므로 복제 지연된 replica가 아닌 primary에서 조회
+        long generation = writeGeneration.get();
+        Optional<MeetingRoomSnapshot> loaded = primaryReader.read(() -> meetingRoomRepository.findAllByShareCode(shareCode)
+                .map(MeetingRoomSnapshot::from));
+
+        if (loaded.isPresent() && writeGeneration.get() == generation) {
+            cache.put(shareCode, loaded.get());
+        }
+        return loaded;
+    }
+
+    /**
+     * 커밋 이후 공유코드의 스냅샷을 폐기합니다. (설정 변경, 삭제, 공유코드 재발급)
+     */
+    public void evictAfterCommit(String shareCode) {
+        TransactionUtil.runAfterCommit(() -> {
+            writeGeneration.incrementAndGet();
+            cache.invalidate(shareCode);
+        });
+    }
+}
@@ -0,0 +1,39 @@
+package com.whenwemeet.backend.domain.meetingRoom.service.code;
+
+import io.hypersistence.tsid.TSID;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+
+/**
+ * 공유코드 발급기
+ * 1) 앞부분은 TSID(시간 + 노드 + 카운터)를 base62로 인코딩하여, DB 조회 없이도 서로 겹치지 않는 값을 만듭니다.
+ * 2) TSID는 시간 순서대로 증가해 추측이 가능하므로, 뒤에 SecureRandom으로 만든 base62 문자열을 덧붙여 초대링크를 추측할 수 없도록 합니다.
+ * 3) 중복 방지는 TSID의 유일성에 의존하며, DB에서는 Flyway V3의 유니크 인덱스(uk_meeting_room_share_code)가 한 번 더 막습니다.
+ */
+@Component
+public class ShareCodeAllocator {
+
+    private static final char[] BASE62 = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+    private static final int RANDOM_LENGTH = 6;
+
+    private final SecureRandom random = new SecureRandom();
+
+    public String allocate() {
+        StringBuilder code = new StringBuilder(toBase62(TSID.Factory.getTsid().toLong()));
+        for (int i = 0; i < RANDOM_LENGTH; i++) {
+            code.append(BASE62[random.nextInt(BASE62.length)]);
+        }
+        return code.toString();
+    }
+
+    private static String toBase62(long value) {
+        char[] buffer = new char[11]; // 64비트 값은 base62로 최대 11자리
+        int position = buffer.length;
+        do {
+            buffer[--position] = BASE62[(int) Long.remainderUnsigned(value, BASE62.length)];
+            value = Long.divideUnsigned(value, BASE62.length);
+        } while (value != 0);
+        return new String(buffer, position, buffer.length - position);
+    }
+}
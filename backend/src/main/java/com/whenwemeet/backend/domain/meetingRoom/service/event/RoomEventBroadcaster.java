@@ -0,0 +1,139 @@
+package com.whenwemeet.backend.domain.meetingRoom.service.event;
+
+import com.whenwemeet.backend.global.redis.RoomChangeCounter;
+import com.whenwemeet.backend.global.redis.RoomChangeEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 미팅룸 변경 이벤트를 SSE 구독자에게 전달합니다.
+ * 1) 변경이 커밋되면 RoomChangeCounter가 Redis 채널로 이벤트를 발행하고, 모든 서버 인스턴스가 이를 수신합니다.
+ * 2) 수신한 이벤트는 해당 미팅룸을 구독중인 이 인스턴스의 연결에만 전달하며, 전송은 연결별 가상 스레드에서 진행하므로
+ *    느린 클라이언트가 Redis 리스너나 다른 연결을 막지 않습니다.
+ * 3) 대기중인 SSE 연결은 서블릿 비동기 요청으로 유지되므로 스레드를 점유하지 않습니다.
+ */
+@Slf4j
+@Component
+public class RoomEventBroadcaster implements MessageListener {
+
+    private static final String CHANGE_EVENT = "change";
+    private static final String VERSION_EVENT = "version";
+
+    private final RedisMessageListenerContainer listenerContainer;
+    private final JsonMapper jsonMapper;
+    private final Duration timeout;
+
+    private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+    public RoomEventBroadcaster(RedisMessageListenerContainer listenerContainer,
+                                JsonMapper jsonMapper,
+                                @Value("${meeting.events.timeout-minutes}") long timeoutMinutes) {
+        this.listenerContainer = listenerContainer;
+        this.jsonMapper = jsonMapper;
+        this.timeout = Duration.ofMinutes(timeoutMinutes);
+    }
+
+    @PostConstruct
+    void subscribeChannel() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(RoomChangeCounter.CHANNEL));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sender.shutdown();
+    }
+
+    /**
+     * 미팅룸 변경 이벤트를 구독합니다. 연결 직후 현재 버전을 한 번 전달합니다.
+     * @param meetingRoomId 구독할 미팅룸 id
+     * @param currentVersion 현재 변경 카운터
+     */
+    public SseEmitter subscribe(Long meetingRoomId, long currentVersion) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        emitters.compute(meetingRoomId, (id, roomEmitters) -> {
+            if (roomEmitters == null) roomEmitters = new CopyOnWriteArraySet<>();
+            roomEmitters.add(emitter);
+            return roomEmitters;
+        });
+
+        Runnable remove = () -> removeEmitter(meetingRoomId, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        send(meetingRoomId, emitter, SseEmitter.event()
+                .name(VERSION_EVENT)
+                .data(Map.of("version", currentVersion)));
+        return emitter;
+    }
+
+    /**
+     * Redis 채널로 수신한 변경 이벤트를 해당 미팅룸의 구독자에게 전달합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        RoomChangeEvent event;
+        try {
+            event = jsonMapper.readValue(message.getBody(), RoomChangeEvent.class);
+        } catch (Exception e) {
+            log.error("미팅룸 변경 이벤트 역직렬화 실패: {}", e.getMessage());
+            return;
+        }
+
+        Set<SseEmitter> roomEmitters = emitters.get(event.meetingRoomId());
+        if (roomEmitters == null || roomEmitters.isEmpty()) return;
+
+        Map<String, Object> data = Map.of("version", event.version(), "type", event.type());
+        for (SseEmitter emitter : roomEmitters) {
+            send(event.meetingRoomId(), emitter, SseEmitter.event().name(CHANGE_EVENT).data(data));
+        }
+    }
+
+    /**
+     * 주기적으로 주석 이벤트를 보내 끊어진 연결을 정리합니다. (프록시 유휴 타임아웃 방지 겸용)
+     */
+    @Scheduled(fixedDelayString = "${meeting.events.heartbeat-seconds}", timeUnit = TimeUnit.SECONDS)
+    void heartbeat() {
+        emitters.forEach((meetingRoomId, roomEmitters) ->
+                roomEmitters.forEach(emitter -> send(meetingRoomId, emitter, SseEmitter.event().comment("ping"))));
+    }
+
+    private void send(Long meetingRoomId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        sender.execute(() -> {
+            try {
+                emitter.send(event);
+            } catch (Exception e) {
+                // 클라이언트가 연결을 끊은 경우
+                removeEmitter(meetingRoomId, emitter);
+                emitter.completeWithError(e);
+            }
+        });
+    }
+
+    private void removeEmitter(Long meetingRoomId, SseEmitter emitter) {
+        emitters.computeIfPresent(meetingRoomId, (id, roomEmitters) -> {
+            roomEmitters.remove(emitter);
+            return roomEmitters.isEmpty() ? null : roomEmitters;
+        });
+    }
+}
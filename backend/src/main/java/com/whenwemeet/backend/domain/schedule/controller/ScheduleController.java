@@ -1,9 +1,16 @@
 package com.whenwemeet.backend.domain.schedule.controller;
 
+import com.whenwemeet.backend.domain.schedule.dto.request.ScheduleOperationRequest;
 import com.whenwemeet.backend.domain.schedule.dto.request.ScheduleRequest;
+import com.whenwemeet.backend.domain.schedule.dto.request.WeeklyScheduleRequest;
+import com.whenwemeet.backend.domain.schedule.dto.response.CompactMembersScheduleResponse;
 import com.whenwemeet.backend.domain.schedule.dto.response.MembersScheduleListResponse;
+import com.whenwemeet.backend.domain.schedule.dto.response.RankedRecommendList;
 import com.whenwemeet.backend.domain.schedule.dto.response.RecommendList;
+import com.whenwemeet.backend.domain.schedule.dto.response.RecommendPageResponse;
+import com.whenwemeet.backend.domain.schedule.dto.response.RoomRecommendResponse;
 import com.whenwemeet.backend.domain.schedule.dto.response.UnavailableTimeList;
+import com.whenwemeet.backend.domain.schedule.dto.response.WeeklyScheduleList;
 import com.whenwemeet.backend.domain.schedule.entity.DayType;
 import com.whenwemeet.backend.domain.schedule.service.ScheduleService;
 import com.whenwemeet.backend.global.response.CommonResponse;
@@ -28,8 +35,15 @@ public class ScheduleController {
     public ResponseEntity<CommonResponse<?>> getMeetingSchedule(
             @PathVariable("shareCode") String shareCode,
             @RequestParam("year") int year,
-            @RequestParam("month") int month
+            @RequestParam("month") int month,
+            @RequestParam(name = "compact", defaultValue = "false") boolean compact
     ){
+        // compact=true 라면 멤버 목록을 한 번만 담고 날짜별로는 멤버 인덱스만 전달
+        if (compact) {
+            CompactMembersScheduleResponse response = scheduleService.getCompactMonthlyAvailableMemberList(shareCode, year, month);
+            return ResponseEntity.ok(CommonResponse.success(response));
+        }
+
         MembersScheduleListResponse response = scheduleService.getMonthlyAvailableMemberList(shareCode, year, month);
         return ResponseEntity.ok(CommonResponse.success(response));
     }
@@ -43,6 +57,25 @@ public class ScheduleController {
         return ResponseEntity.ok(CommonResponse.success(response));
     }
 
+    @GetMapping("/my/weekly/{shareCode}")
+    public ResponseEntity<CommonResponse<?>> getMyWeeklySchedule(
+            @AuthenticationPrincipal CustomOAuth2User user,
+            @PathVariable("shareCode") String shareCode
+    ){
+        List<WeeklyScheduleList> response = scheduleService.getMyWeeklySchedule(user.getId(), shareCode);
+        return ResponseEntity.ok(CommonResponse.success(response));
+    }
+
+    @PostMapping("/weekly/{shareCode}")
+    public ResponseEntity<CommonResponse<?>> replaceWeeklySchedule(
+            @AuthenticationPrincipal CustomOAuth2User user,
+            @PathVariable("shareCode") String shareCode,
+            @RequestBody List<WeeklyScheduleRequest> weeklyRequest
+    ){
+        scheduleService.replaceWeeklySchedule(user.getId(), shareCode, weeklyRequest);
+        return ResponseEntity.ok(CommonResponse.success());
+    }
+
     @PostMapping("/{shareCode}")
     public ResponseEntity<CommonResponse<?>> addMeetingSchedule(
             @AuthenticationPrincipal CustomOAuth2User user,
@@ -53,12 +86,54 @@ public class ScheduleController {
         return ResponseEntity.ok(CommonResponse.success());
     }
 
+    @PatchMapping("/{shareCode}")
+    public ResponseEntity<CommonResponse<?>> updateMeetingSchedule(
+            @AuthenticationPrincipal CustomOAuth2User user,
+            @PathVariable("shareCode") String shareCode,
+            @RequestBody ScheduleOperationRequest operationRequest
+    ){
+        scheduleService.updateIndividualSchedule(user.getId(), shareCode, operationRequest);
+        return ResponseEntity.ok(CommonResponse.success());
+    }
+
     @GetMapping("/recommend/{shareCode}/{type}")
     public ResponseEntity<CommonResponse<?>> getRecommendMeetingSchedule(
             @PathVariable("shareCode") String shareCode,
-            @PathVariable("type") DayType type
+            @PathVariable("type") DayType type,
+            @RequestParam(name = "days", required = false) Integer days,
+            @RequestParam(name = "minAvailable", required = false) Integer minAvailable,
+            @RequestParam(name = "limit", required = false) Integer limit
+    ){
+        // minAvailable이 없으면 전원 참석 가능한 시간대만, 있으면 해당 인원 이상 참석 가능한 시간대를 인원순으로 추천
+        if(minAvailable == null) {
+            List<RecommendList> response = scheduleService.getRecommendSchedulePage(shareCode, type, days, null, null).recommendations();
+            return ResponseEntity.ok(CommonResponse.success(response));
+        }
+
+        List<RankedRecommendList> response = scheduleService.getPartialRecommendSchedule(shareCode, type, days, minAvailable, limit);
+        return ResponseEntity.ok(CommonResponse.success(response));
+    }
+
+    @GetMapping("/recommend/batch/{type}")
+    public ResponseEntity<CommonResponse<?>> getBatchRecommendMeetingSchedule(
+            @PathVariable("type") DayType type,
+            @RequestParam("shareCodes") List<String> shareCodes
+    ){
+        // 홈 화면처럼 여러 미팅룸의 추천 시간대가 필요할 때 한 번의 요청으로 조회
+        List<RoomRecommendResponse> response = scheduleService.getBatchRecommendSchedule(shareCodes, type);
+        return ResponseEntity.ok(CommonResponse.success(response));
+    }
+
+    @GetMapping("/recommend/{shareCode}/{type}/page")
+    public ResponseEntity<CommonResponse<?>> getRecommendMeetingSchedulePage(
+            @PathVariable("shareCode") String shareCode,
+            @PathVariable("type") DayType type,
+            @RequestParam(name = "days", required = false) Integer days,
+            @RequestParam(name = "size", required = false) Integer size,
+            @RequestParam(name = "cursor", required = false) String cursor
     ){
-        List<RecommendList> response = scheduleService.getRecommendSchedule(shareCode, type);
+        // 다음 페이지는 응답의 nextCursor를 cursor로 전달 (days는 첫 요청에서만 사용하며, 다음 요청에서 다른 값을 보내면 400)
+        RecommendPageResponse response = scheduleService.getRecommendSchedulePage(shareCode, type, days, size, cursor);
         return ResponseEntity.ok(CommonResponse.success(response));
     }
 }
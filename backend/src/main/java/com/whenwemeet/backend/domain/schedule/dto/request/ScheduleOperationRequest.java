@@ -0,0 +1,8 @@
+package com.whenwemeet.backend.domain.schedule.dto.request;
+
+import java.util.List;
+
+public record ScheduleOperationRequest(
+        List<ScheduleRequest> add, // 새로 추가할 불가능 시간대 (nullable)
+        List<ScheduleRequest> remove // 삭제할 불가능 시간대 (nullable)
+) {}
@@ -1,5 +1,7 @@
 package com.whenwemeet.backend.domain.schedule.dto.request;
 
+import com.whenwemeet.backend.domain.schedule.entity.UnavailableTime;
+
 import java.time.LocalDate;
 import java.time.LocalTime;
 
@@ -7,4 +9,8 @@ public record ScheduleRequest(
         LocalDate unavailableDate,
         LocalTime unavailableStartTime,
         LocalTime unavailableEndTime
-) {}
+) {
+    public static ScheduleRequest from(UnavailableTime ut) {
+        return new ScheduleRequest(ut.getUnavailableDate(), ut.getUnavailableStartTime(), ut.getUnavailableEndTime());
+    }
+}
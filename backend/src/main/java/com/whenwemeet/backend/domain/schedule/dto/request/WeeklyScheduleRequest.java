@@ -0,0 +1,11 @@
+package com.whenwemeet.backend.domain.schedule.dto.request;
+
+import com.whenwemeet.backend.domain.meetingRoom.entity.enumType.DayType;
+
+import java.time.LocalTime;
+
+public record WeeklyScheduleRequest(
+        DayType dayType,
+        LocalTime startTime,
+        LocalTime endTime
+) {}
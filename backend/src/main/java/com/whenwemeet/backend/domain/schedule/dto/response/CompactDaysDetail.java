@@ -0,0 +1,10 @@
+package com.whenwemeet.backend.domain.schedule.dto.response;
+
+import java.time.LocalDate;
+
+public record CompactDaysDetail(
+        LocalDate date,
+        Integer availableCount,
+        int[] unAvailableMembers // CompactMembersScheduleResponse.members 의 인덱스
+) {
+}
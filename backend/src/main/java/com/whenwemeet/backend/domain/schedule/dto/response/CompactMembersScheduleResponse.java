@@ -0,0 +1,16 @@
+package com.whenwemeet.backend.domain.schedule.dto.response;
+
+import com.whenwemeet.backend.domain.meetingRoom.dto.response.MemberProfileResponse;
+
+import java.util.List;
+
+/**
+ * 월별 캘린더 응답 (compact 모드)
+ * 멤버 정보는 members에 한 번만 담고, 날짜별 불가능 멤버는 members의 인덱스로 전달합니다.
+ */
+public record CompactMembersScheduleResponse(
+        Integer totalMembers,
+        List<MemberProfileResponse> members,
+        List<CompactDaysDetail> membersScheduleByDate
+) {
+}
@@ -0,0 +1,11 @@
+package com.whenwemeet.backend.domain.schedule.dto.response;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record MemberUnavailableTime(
+        Long userId,
+        LocalDate unavailableDate,
+        LocalTime unavailableStartTime,
+        LocalTime unavailableEndTime
+) {}
@@ -0,0 +1,13 @@
+package com.whenwemeet.backend.domain.schedule.dto.response;
+
+import com.whenwemeet.backend.domain.meetingRoom.entity.enumType.DayType;
+
+import java.time.LocalTime;
+
+public record MemberWeeklyRule(
+        Long userId,
+        DayType dayType,
+        LocalTime startTime,
+        LocalTime endTime
+) {
+}
@@ -0,0 +1,12 @@
+package com.whenwemeet.backend.domain.schedule.dto.response;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record RankedRecommendList(
+        LocalDate day,
+        LocalTime startTime,
+        LocalTime endTime,
+        Integer availableCount, // 해당 시간대에 참석 가능한 인원 수
+        Integer totalMembers
+) {}
@@ -0,0 +1,13 @@
+package com.whenwemeet.backend.domain.schedule.dto.response;
+
+import java.util.List;
+
+/**
+ * 추천 시간대 페이지
+ * nextCursor가 null이면 검색 범위를 모두 확인한 것이고, 아니라면 다음 요청의 cursor로 그대로 전달합니다.
+ */
+public record RecommendPageResponse(
+        List<RecommendList> recommendations,
+        String nextCursor
+) {
+}
@@ -0,0 +1,9 @@
+package com.whenwemeet.backend.domain.schedule.dto.response;
+
+import java.util.List;
+
+public record RoomRecommendResponse(
+        String shareCode,
+        List<RecommendList> recommendations
+) {
+}
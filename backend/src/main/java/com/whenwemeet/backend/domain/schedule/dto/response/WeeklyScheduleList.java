@@ -0,0 +1,12 @@
+package com.whenwemeet.backend.domain.schedule.dto.response;
+
+import com.whenwemeet.backend.domain.meetingRoom.entity.enumType.DayType;
+
+import java.time.LocalTime;
+
+public record WeeklyScheduleList(
+        DayType dayType,
+        LocalTime startTime,
+        LocalTime endTime
+) {
+}
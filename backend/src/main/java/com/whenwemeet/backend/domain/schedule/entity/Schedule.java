@@ -1,12 +1,18 @@
 package com.whenwemeet.backend.domain.schedule.entity;
 
+import com.whenwemeet.backend.domain.meetingRoom.entity.MeetingRoom;
 import com.whenwemeet.backend.domain.meetingRoom.entity.enumType.DayType;
 import com.whenwemeet.backend.domain.user.entity.User;
+import io.hypersistence.utils.hibernate.id.Tsid;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalTime;
 
+/**
+ * 매주 반복되는 불가능 규칙 (ex. 매주 월요일 09:00 ~ 12:00)
+ * 날짜별 UnavailableTime 행으로 펼치지 않고, 집계 계산 시점에 요일별로 적용합니다.
+ */
 @Entity
 @Getter
 @Builder
@@ -15,11 +21,12 @@ import java.time.LocalTime;
 public class Schedule {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     private Long id;
 
     private String detail;
 
+    @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private DayType dayType;
 
@@ -31,4 +38,12 @@ public class Schedule {
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    private MeetingRoom meetingRoom;
+
+
+    public void changeUser(User user) {
+        this.user = user;
+    }
 }
@@ -1,7 +1,38 @@
 package com.whenwemeet.backend.domain.schedule.repository;
 
 import com.whenwemeet.backend.domain.schedule.entity.Schedule;
+import com.whenwemeet.backend.domain.schedule.repository.custom.ScheduleCustomRepository;
+import com.whenwemeet.backend.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
-public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
+import java.util.Collection;
+
+public interface ScheduleRepository extends JpaRepository<Schedule, Long>, ScheduleCustomRepository {
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            delete Schedule s
+            where s.meetingRoom.id = :meetingRoomId""")
+    void deleteAllScheduleInMeetingRoom(Long meetingRoomId);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            delete Schedule s
+            where s.meetingRoom.id in :meetingRoomIds""")
+    int deleteAllScheduleInMeetingRooms(Collection<Long> meetingRoomIds);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            delete Schedule s
+            where s.meetingRoom.id = :meetingRoomId AND s.user.id = :userId""")
+    void deleteScheduleInMeetingRoom(Long userId, Long meetingRoomId);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            update Schedule s
+            set s.user = :user
+            where s.user.id = :guestUserId""")
+    int reassignUser(Long guestUserId, User user);
 }
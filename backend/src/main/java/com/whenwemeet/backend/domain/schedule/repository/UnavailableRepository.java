@@ -3,16 +3,19 @@ package com.whenwemeet.backend.domain.schedule.repository;
 import com.whenwemeet.backend.domain.schedule.entity.UnavailableTime;
 import com.whenwemeet.backend.domain.schedule.repository.custom.UnavailableCustomRepository;
 import com.whenwemeet.backend.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface UnavailableRepository extends JpaRepository<UnavailableTime, Long>, UnavailableCustomRepository {
 
-    List<UnavailableTime> findAllByUser(User user);
+    List<UnavailableTime> findAllByUserIdAndMeetingRoomId(Long userId, Long meetingRoomId);
 
     @Modifying(clearAutomatically = true)
     @Query(value = """
@@ -27,11 +30,40 @@ public interface UnavailableRepository extends JpaRepository<UnavailableTime, Lo
             where u.meetingRoom.id = :meetingRoomId""")
     void deleteAllTimeInMeetingRoom(Long meetingRoomId);
 
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            delete UnavailableTime u
+            where u.meetingRoom.id in :meetingRoomIds""")
+    int deleteAllTimeInMeetingRooms(Collection<Long> meetingRoomIds);
+
+    /**
+     * 날짜가 cutoff 이전인 불가능한 시간대의 id를 lastId 이후부터 id 순으로 조회합니다. (보관 정책 정리 작업의 keyset 청크)
+     */
+    @Query("""
+            select u.id
+            from UnavailableTime u
+            where u.id > :lastId and u.unavailableDate < :cutoff
+            order by u.id""")
+    List<Long> findIdsDatedBefore(Long lastId, LocalDate cutoff, Pageable pageable);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("""
             delete UnavailableTime u
             where u.meetingRoom.id = :meetingRoomId AND u.user.id = :userId""")
     void deleteTimeInMeetingRoom(Long userId, Long meetingRoomId);
 
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            delete UnavailableTime u
+            where u.id in :ids""")
+    int deleteAllByIdIn(List<Long> ids);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            update UnavailableTime u
+            set u.user = :user
+            where u.user.id = :guestUserId""")
+    int reassignUser(Long guestUserId, User user);
+
 
 }
@@ -0,0 +1,17 @@
+package com.whenwemeet.backend.domain.schedule.repository.custom;
+
+import com.whenwemeet.backend.domain.schedule.dto.response.MemberWeeklyRule;
+import com.whenwemeet.backend.domain.schedule.dto.response.WeeklyScheduleList;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface ScheduleCustomRepository {
+
+    List<MemberWeeklyRule> findMemberWeeklyRules(Long meetingRoomId);
+
+    Map<Long, List<MemberWeeklyRule>> findMemberWeeklyRulesGroupByMeetingRoom(Collection<Long> meetingRoomIds);
+
+    List<WeeklyScheduleList> findAllByMeetingRoomAndUser(Long userId, Long meetingRoomId);
+}
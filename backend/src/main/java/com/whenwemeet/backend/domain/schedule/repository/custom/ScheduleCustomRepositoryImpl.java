@@ -0,0 +1,69 @@
+package com.whenwemeet.backend.domain.schedule.repository.custom;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.whenwemeet.backend.domain.schedule.dto.response.MemberWeeklyRule;
+import com.whenwemeet.backend.domain.schedule.dto.response.WeeklyScheduleList;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static com.querydsl.core.group.GroupBy.groupBy;
+import static com.querydsl.core.group.GroupBy.list;
+import static com.whenwemeet.backend.domain.schedule.entity.QSchedule.schedule;
+
+
+@Repository
+@AllArgsConstructor
+public class ScheduleCustomRepositoryImpl implements ScheduleCustomRepository{
+
+    private final JPAQueryFactory factory;
+
+
+    @Override
+    public List<MemberWeeklyRule> findMemberWeeklyRules(Long meetingRoomId) {
+        return factory
+                .select(Projections.constructor(
+                        MemberWeeklyRule.class,
+                        schedule.user.id,
+                        schedule.dayType,
+                        schedule.startTime,
+                        schedule.endTime
+                ))
+                .from(schedule)
+                .where(schedule.meetingRoom.id.eq(meetingRoomId))
+                .fetch();
+    }
+
+    @Override
+    public Map<Long, List<MemberWeeklyRule>> findMemberWeeklyRulesGroupByMeetingRoom(Collection<Long> meetingRoomIds) {
+        return factory
+                .from(schedule)
+                .where(schedule.meetingRoom.id.in(meetingRoomIds))
+                .transform(groupBy(schedule.meetingRoom.id).as(list(Projections.constructor(
+                        MemberWeeklyRule.class,
+                        schedule.user.id,
+                        schedule.dayType,
+                        schedule.startTime,
+                        schedule.endTime
+                ))));
+    }
+
+    @Override
+    public List<WeeklyScheduleList> findAllByMeetingRoomAndUser(Long userId, Long meetingRoomId) {
+        return factory
+                .select(Projections.constructor(
+                        WeeklyScheduleList.class,
+                        schedule.dayType,
+                        schedule.startTime,
+                        schedule.endTime
+                ))
+                .from(schedule)
+                .where(schedule.meetingRoom.id.eq(meetingRoomId),
+                        schedule.user.id.eq(userId))
+                .fetch();
+    }
+}
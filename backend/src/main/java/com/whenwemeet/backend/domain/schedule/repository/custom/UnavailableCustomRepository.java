@@ -1,25 +1,17 @@
 package com.whenwemeet.backend.domain.schedule.repository.custom;
 
-import com.whenwemeet.backend.domain.meetingRoom.entity.MeetingRoom;
+import com.whenwemeet.backend.domain.schedule.dto.response.MemberUnavailableTime;
 import com.whenwemeet.backend.domain.schedule.dto.response.UnavailableTimeList;
-import com.whenwemeet.backend.domain.schedule.entity.UnavailableTime;
 
-import java.time.LocalDate;
-import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface UnavailableCustomRepository {
-    List<UnavailableTime> findAllIncludeInStandardTime(
-            MeetingRoom meetingRoom,
-            LocalDate startOfMonth,
-            LocalDate endOfMonth
-    );
 
-    List<UnavailableTimeList> findUnavailableTimes(
-            Long meetingRoomId,
-            LocalDate startDate,
-            LocalTime startTime,
-            LocalTime endTime);
+    List<MemberUnavailableTime> findMemberUnavailableTimes(Long meetingRoomId);
+
+    Map<Long, List<MemberUnavailableTime>> findMemberUnavailableTimesGroupByMeetingRoom(Collection<Long> meetingRoomIds);
 
     List<UnavailableTimeList> findAllByMeetingRoomAndUser(Long userId, Long meetingRoomId);
 }
@@ -2,18 +2,18 @@ package com.whenwemeet.backend.domain.schedule.repository.custom;
 
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.whenwemeet.backend.domain.meetingRoom.entity.MeetingRoom;
+import com.whenwemeet.backend.domain.schedule.dto.response.MemberUnavailableTime;
 import com.whenwemeet.backend.domain.schedule.dto.response.UnavailableTimeList;
-import com.whenwemeet.backend.domain.schedule.entity.UnavailableTime;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDate;
-import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
+import static com.querydsl.core.group.GroupBy.groupBy;
+import static com.querydsl.core.group.GroupBy.list;
 import static com.whenwemeet.backend.domain.schedule.entity.QUnavailableTime.unavailableTime;
-import static com.whenwemeet.backend.domain.user.entity.QUser.user;
 
 
 @Repository
@@ -24,39 +24,32 @@ public class UnavailableCustomRepositoryImpl implements UnavailableCustomReposit
 
 
     @Override
-    public List<UnavailableTime> findAllIncludeInStandardTime(
-            MeetingRoom meetingRoom, LocalDate startOfMonth, LocalDate endOfMonth) {
-
+    public List<MemberUnavailableTime> findMemberUnavailableTimes(Long meetingRoomId) {
         return factory
-                .select(unavailableTime)
+                .select(Projections.constructor(
+                        MemberUnavailableTime.class,
+                        unavailableTime.user.id,
+                        unavailableTime.unavailableDate,
+                        unavailableTime.unavailableStartTime,
+                        unavailableTime.unavailableEndTime
+                ))
                 .from(unavailableTime)
-                .join(unavailableTime.user, user).fetchJoin()
-                .where(
-                        unavailableTime.meetingRoom.eq(meetingRoom),
-                        unavailableTime.unavailableDate.between(startOfMonth, endOfMonth),
-                        unavailableTime.unavailableStartTime.lt(meetingRoom.getEndTime()),
-                        unavailableTime.unavailableEndTime.goe(meetingRoom.getStartTime())
-                )
+                .where(unavailableTime.meetingRoom.id.eq(meetingRoomId))
                 .fetch();
     }
 
     @Override
-    public List<UnavailableTimeList> findUnavailableTimes(Long meetingRoomId, LocalDate startDate, LocalTime startTime, LocalTime endTime) {
+    public Map<Long, List<MemberUnavailableTime>> findMemberUnavailableTimesGroupByMeetingRoom(Collection<Long> meetingRoomIds) {
         return factory
-                .select(Projections.constructor(
-                        UnavailableTimeList.class,
+                .from(unavailableTime)
+                .where(unavailableTime.meetingRoom.id.in(meetingRoomIds))
+                .transform(groupBy(unavailableTime.meetingRoom.id).as(list(Projections.constructor(
+                        MemberUnavailableTime.class,
+                        unavailableTime.user.id,
                         unavailableTime.unavailableDate,
                         unavailableTime.unavailableStartTime,
                         unavailableTime.unavailableEndTime
-                ))
-                .from(unavailableTime)
-                .where(
-                        unavailableTime.meetingRoom.id.eq(meetingRoomId),
-                        unavailableTime.unavailableDate.goe(startDate),
-                        unavailableTime.unavailableStartTime.lt(endTime),
-                        unavailableTime.unavailableEndTime.gt(startTime)
-                )
-                .fetch();
+                ))));
     }
 
     @Override
@@ -0,0 +1,65 @@
+package com.whenwemeet.backend.domain.schedule.service;
+
+import com.whenwemeet.backend.domain.schedule.entity.DayType;
+import com.whenwemeet.backend.global.exception.type.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import static com.whenwemeet.backend.global.exception.ErrorCode.S001;
+
+/**
+ * 추천 시간대 검색을 이어서 진행하기 위한 커서
+ * 다음에 확인할 날짜와 첫 요청에서 정해진 검색 종료 날짜를 담아, 이후 페이지가 today부터 다시 검색하지 않도록 합니다.
+ * 커서를 만든 요청의 미팅룸(shareCode)과 검색 조건(type, days)도 함께 담아, 다른 조건의 요청에 커서를 재사용하면 거절합니다.
+ * 클라이언트에는 Base64(URL-safe) 문자열로만 전달합니다.
+ */
+record RecommendCursor(
+        String shareCode,
+        DayType type,
+        int days,
+        LocalDate nextDate,
+        LocalDate endDate
+) {
+
+    private static final String DELIMITER = "|";
+
+    String encode() {
+        String raw = String.join(DELIMITER, shareCode, type.name(), String.valueOf(days), nextDate.toString(), endDate.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor 이전 페이지에서 받은 커서
+     * @param shareCode 이번 요청의 미팅룸 공유 코드 (커서를 만든 요청과 다르면 예외)
+     * @param type 이번 요청의 DayType (커서를 만든 요청과 다르면 예외)
+     * @param days 이번 요청의 검색 일수 (전달했다면 커서를 만든 요청과 다르면 예외, null이면 비교하지 않음)
+     */
+    static RecommendCursor decode(String cursor, String shareCode, DayType type, Integer days) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 5) throw new BadRequestException(S001);
+
+            RecommendCursor decoded = new RecommendCursor(
+                    parts[0],
+                    DayType.valueOf(parts[1]),
+                    Integer.parseInt(parts[2]),
+                    LocalDate.parse(parts[3]),
+                    LocalDate.parse(parts[4]));
+
+            boolean sameRequest = decoded.shareCode().equals(shareCode)
+                    && decoded.type() == type
+                    && (days == null || decoded.days() == days);
+            if (!sameRequest || decoded.nextDate().isAfter(decoded.endDate())) {
+                throw new BadRequestException(S001);
+            }
+            return decoded;
+        } catch (BadRequestException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new BadRequestException(S001);
+        }
+    }
+}
@@ -1,9 +1,16 @@
 package com.whenwemeet.backend.domain.schedule.service;
 
+import com.whenwemeet.backend.domain.schedule.dto.request.ScheduleOperationRequest;
 import com.whenwemeet.backend.domain.schedule.dto.request.ScheduleRequest;
+import com.whenwemeet.backend.domain.schedule.dto.request.WeeklyScheduleRequest;
+import com.whenwemeet.backend.domain.schedule.dto.response.CompactMembersScheduleResponse;
 import com.whenwemeet.backend.domain.schedule.dto.response.MembersScheduleListResponse;
+import com.whenwemeet.backend.domain.schedule.dto.response.RankedRecommendList;
 import com.whenwemeet.backend.domain.schedule.dto.response.RecommendList;
+import com.whenwemeet.backend.domain.schedule.dto.response.RecommendPageResponse;
+import com.whenwemeet.backend.domain.schedule.dto.response.RoomRecommendResponse;
 import com.whenwemeet.backend.domain.schedule.dto.response.UnavailableTimeList;
+import com.whenwemeet.backend.domain.schedule.dto.response.WeeklyScheduleList;
 import com.whenwemeet.backend.domain.schedule.entity.DayType;
 
 import java.util.List;
@@ -11,10 +18,23 @@ import java.util.List;
 public interface ScheduleService {
 
     MembersScheduleListResponse getMonthlyAvailableMemberList(String shareCode, int year, int month);
+    CompactMembersScheduleResponse getCompactMonthlyAvailableMemberList(String shareCode, int year, int month);
 
     void addIndividualSchedule(Long userId, String shareCode, List<ScheduleRequest> scheduleRequest);
 
+    void updateIndividualSchedule(Long userId, String shareCode, ScheduleOperationRequest request);
+
+    void replaceWeeklySchedule(Long userId, String shareCode, List<WeeklyScheduleRequest> weeklyRequest);
+
+    List<WeeklyScheduleList> getMyWeeklySchedule(Long userId, String shareCode);
+
     List<RecommendList> getRecommendSchedule(String shareCode, DayType type);
 
+    RecommendPageResponse getRecommendSchedulePage(String shareCode, DayType type, Integer days, Integer size, String cursor);
+
+    List<RoomRecommendResponse> getBatchRecommendSchedule(List<String> shareCodes, DayType type);
+
+    List<RankedRecommendList> getPartialRecommendSchedule(String shareCode, DayType type, Integer days, int minAvailable, Integer limit);
+
     List<UnavailableTimeList> getAllUnavailableMyTimeList(Long userId, String shareCode);
 }
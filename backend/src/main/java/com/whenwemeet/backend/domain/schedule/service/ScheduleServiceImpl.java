@@ -1,31 +1,57 @@
 package com.whenwemeet.backend.domain.schedule.service;
 
+import com.whenwemeet.backend.domain.meetingRoom.dto.response.MemberProfileResponse;
 import com.whenwemeet.backend.domain.meetingRoom.entity.MeetingRoom;
 import com.whenwemeet.backend.domain.meetingRoom.entity.UserMeetingRoom;
 import com.whenwemeet.backend.domain.meetingRoom.repository.MeetingRoomRepository;
 import com.whenwemeet.backend.domain.meetingRoom.repository.UserMeetingRoomRepository;
+import com.whenwemeet.backend.domain.meetingRoom.service.cache.MeetingRoomSnapshot;
+import com.whenwemeet.backend.domain.meetingRoom.service.cache.MeetingRoomSnapshotCache;
+import com.whenwemeet.backend.domain.schedule.dto.request.ScheduleOperationRequest;
 import com.whenwemeet.backend.domain.schedule.dto.request.ScheduleRequest;
+import com.whenwemeet.backend.domain.schedule.dto.request.WeeklyScheduleRequest;
+import com.whenwemeet.backend.domain.schedule.dto.response.CompactDaysDetail;
+import com.whenwemeet.backend.domain.schedule.dto.response.CompactMembersScheduleResponse;
 import com.whenwemeet.backend.domain.schedule.dto.response.DaysDetail;
 import com.whenwemeet.backend.domain.schedule.dto.response.MembersScheduleListResponse;
+import com.whenwemeet.backend.domain.schedule.dto.response.RankedRecommendList;
 import com.whenwemeet.backend.domain.schedule.dto.response.RecommendList;
+import com.whenwemeet.backend.domain.schedule.dto.response.RecommendPageResponse;
+import com.whenwemeet.backend.domain.schedule.dto.response.RoomRecommendResponse;
 import com.whenwemeet.backend.domain.schedule.dto.response.UnavailableTimeList;
+import com.whenwemeet.backend.domain.schedule.dto.response.WeeklyScheduleList;
 import com.whenwemeet.backend.domain.schedule.entity.DayType;
+import com.whenwemeet.backend.domain.schedule.entity.Schedule;
 import com.whenwemeet.backend.domain.schedule.entity.UnavailableTime;
+import com.whenwemeet.backend.domain.schedule.repository.ScheduleRepository;
 import com.whenwemeet.backend.domain.schedule.repository.UnavailableRepository;
+import com.whenwemeet.backend.domain.schedule.service.availability.RoomAvailability;
+import com.whenwemeet.backend.domain.schedule.service.availability.RoomAvailabilityStore;
+import com.whenwemeet.backend.domain.schedule.service.cache.MonthlyScheduleCache;
+import com.whenwemeet.backend.domain.schedule.service.write.IndividualScheduleWriter;
+import com.whenwemeet.backend.domain.schedule.service.write.ScheduleWriteBehindQueue;
+import com.whenwemeet.backend.global.datasource.PrimaryReader;
+import com.whenwemeet.backend.global.exception.type.BadRequestException;
 import com.whenwemeet.backend.global.exception.type.NotFoundException;
+import com.whenwemeet.backend.global.redis.RoomChangeCounter;
+import com.whenwemeet.backend.global.redis.RoomChangeType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 
 import static com.whenwemeet.backend.global.exception.ErrorCode.M002;
 import static com.whenwemeet.backend.global.exception.ErrorCode.M003;
+import static com.whenwemeet.backend.global.exception.ErrorCode.S001;
+import static com.whenwemeet.backend.global.exception.ErrorCode.S002;
+import static com.whenwemeet.backend.global.exception.ErrorCode.S003;
 
 @Slf4j
 @Service
@@ -34,164 +60,387 @@ public class ScheduleServiceImpl implements ScheduleService{
 
     private final MeetingRoomRepository meetingRoomRepository;
     private final UnavailableRepository unavailableRepository;
+    private final ScheduleRepository scheduleRepository;
     private final UserMeetingRoomRepository userMeetingRoomRepository;
-    private final int PLUSDAYS = 90;
-    private final int MAX_RECOMMEND_COUNT = 5; // 추천 시간대 개수 (추후 10개로 확장 가능)
+    private final RoomAvailabilityStore roomAvailabilityStore;
+    private final MonthlyScheduleCache monthlyScheduleCache;
+    private final RoomChangeCounter roomChangeCounter;
+    private final MeetingRoomSnapshotCache meetingRoomSnapshotCache;
+    private final ExecutorService recommendExecutor;
+    private final IndividualScheduleWriter individualScheduleWriter;
+    private final ScheduleWriteBehindQueue scheduleWriteBehindQueue;
+    private final PrimaryReader primaryReader;
+
+    private static final int DEFAULT_PARTIAL_RECOMMEND_COUNT = 5;   // 일부 참석 추천 시 기본 반환 개수
+    private static final int MAX_PARTIAL_RECOMMEND_COUNT = 20;      // 일부 참석 추천 시 최대 반환 개수
+
+    @Value("${schedule.recommend.default-days}")
+    private int defaultRecommendDays;   // 검색 범위 기본값 (일)
+
+    @Value("${schedule.recommend.max-days}")
+    private int maxRecommendDays;       // 검색 범위 최대값 (일)
+
+    @Value("${schedule.recommend.default-size}")
+    private int defaultRecommendSize;   // 페이지당 추천 시간대 개수 기본값
+
+    @Value("${schedule.recommend.max-size}")
+    private int maxRecommendSize;       // 페이지당 추천 시간대 개수 최대값
+
+    @Value("${schedule.recommend.max-batch-rooms}")
+    private int maxBatchRooms;          // 일괄 추천 시 한 번에 조회할 수 있는 미팅룸 수
 
     @Override
+    @Transactional(readOnly = true)
     public MembersScheduleListResponse getMonthlyAvailableMemberList(String shareCode, int year, int month) {
+        CompactMembersScheduleResponse compact = getCompactMonthlyAvailableMemberList(shareCode, year, month);
+
+        // compact 응답의 멤버 인덱스를 닉네임으로 풀어서 반환
+        List<MemberProfileResponse> members = compact.members();
+        List<DaysDetail> MembersScheduleByDate = new ArrayList<>(compact.membersScheduleByDate().size());
+        for (CompactDaysDetail day : compact.membersScheduleByDate()) {
+            List<String> UnAvailableMemberList = new ArrayList<>(day.unAvailableMembers().length);
+            for (int index : day.unAvailableMembers()) {
+                UnAvailableMemberList.add(members.get(index).nickname());
+            }
+            MembersScheduleByDate.add(new DaysDetail(day.date(), day.availableCount(), UnAvailableMemberList));
+        }
+
+        return new MembersScheduleListResponse(compact.totalMembers(), MembersScheduleByDate);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CompactMembersScheduleResponse getCompactMonthlyAvailableMemberList(String shareCode, int year, int month) {
         // 1) 미팅룸 조회
-        MeetingRoom mr = meetingRoomRepository.findAllByShareCode(shareCode)
+        MeetingRoomSnapshot mr = meetingRoomSnapshotCache.findByShareCode(shareCode)
                 .orElseThrow(() -> new NotFoundException(M003));
-        // 2) 현재 미팅룸에 참여중인 인원수 조회
-        int allMembersNum = userMeetingRoomRepository.countByMeetingRoom(mr);
 
-        // 3) 월별 시작 및 종료 날짜 정의
+        // 2) DB 반영을 기다리는 스케줄이 있다면 공유 캐시를 거치지 않고, 대기 중인 값을 덮어쓴 집계로 계산 (read-your-writes)
+        if (scheduleWriteBehindQueue.hasPending(mr.id())) {
+            RoomAvailability availability = scheduleWriteBehindQueue.withPending(mr.id(), roomAvailabilityStore.get(mr));
+            return buildMonthlyAvailableMemberList(mr, year, month, availability);
+        }
+
+        // 3) 미팅룸 변경 카운터 기준으로 캐싱된 응답이 있다면 반환, 없다면 해당 카운터 이후의 데이터로 계산 후 캐싱
+        return monthlyScheduleCache.getOrLoad(mr.id(), year, month,
+                version -> buildMonthlyAvailableMemberList(mr, year, month, roomAvailabilityStore.get(mr, version)));
+    }
+
+    /**
+     * 미팅룸 집계를 기반으로 월별 날짜별 불가능 멤버 목록을 계산합니다.
+     * 멤버는 User 엔티티를 로딩하지 않고 프로젝션으로 조회하며, 날짜별로는 멤버 목록의 인덱스만 담습니다.
+     * 결과는 공유 캐시에 저장되므로, 멤버는 primary에서 읽고 집계는 캐시 키의 변경 카운터 이후의 변경이 반영된 것만 사용합니다.
+     */
+    private CompactMembersScheduleResponse buildMonthlyAvailableMemberList(MeetingRoomSnapshot mr, int year, int month,
+                                                                           RoomAvailability availability) {
+        // 1) 현재 미팅룸에 참여중인 멤버 조회 (userId 오름차순) 후 userId -> 인덱스 매핑
+        List<MemberProfileResponse> members = primaryReader.read(() ->
+                userMeetingRoomRepository.findMemberProfilesByMeetingRoomId(mr.id()));
+        Map<Long, Integer> memberIndex = new HashMap<>();
+        for (int i = 0; i < members.size(); i++) {
+            memberIndex.put(members.get(i).userId(), i);
+        }
+        int allMembersNum = members.size();
+
+        // 2) 월별 시작 및 종료 날짜 정의
         LocalDate startOfMonth = LocalDate.of(year, month, 1);
         LocalDate endOfMonth = startOfMonth.withDayOfMonth(startOfMonth.lengthOfMonth());
 
-        // 3-1) startofMonth가 해당 미팅룸의 모임 시작날짜보다 이른 날짜라면 미팅룸의 시작날짜로 변경
-        startOfMonth = startOfMonth.isBefore(mr.getStartDate()) ? mr.getStartDate() : startOfMonth;
+        // 2-1) startofMonth가 해당 미팅룸의 모임 시작날짜보다 이른 날짜라면 미팅룸의 시작날짜로 변경
+        startOfMonth = startOfMonth.isBefore(mr.startDate()) ? mr.startDate() : startOfMonth;
 
-        // 4) 해당 기간동안 불가능한 사용자를 조회합니다.
-        List<UnavailableTime> unavailableTimes = unavailableRepository
-                .findAllIncludeInStandardTime(mr, startOfMonth, endOfMonth);
+        // 3) 미팅룸 집계에서 날짜별로 불가능한 멤버를 꺼내 인덱스로 변환
+        List<CompactDaysDetail> MembersScheduleByDate = new ArrayList<>();
 
-        // 5) 이제 날짜별로 해당 사람들을 분리해야 합니다. (하나의 날짜에 사람 이름이 중복되지 않도록)
-        Map<LocalDate, Set<String>> members = new HashMap<>();
-        for(UnavailableTime ut : unavailableTimes){
-            members.computeIfAbsent(
-                    ut.getUnavailableDate(),
-                    date -> new HashSet<>()).add(ut.getUser().getNickname());
+        for(LocalDate date = startOfMonth; !date.isAfter(endOfMonth); date = date.plusDays(1)){
+            // 불가능하다고 표시된 멤버들 (해당 날짜에 없으면 넘김)
+            Set<Long> unAvailableMembers = availability.findUnavailableMembers(date);
+            if(unAvailableMembers.isEmpty()) continue;
+
+            int[] unAvailableIndexes = unAvailableMembers.stream()
+                    .map(memberIndex::get)
+                    .filter(Objects::nonNull)
+                    .mapToInt(Integer::intValue)
+                    .sorted()
+                    .toArray();
+
+            MembersScheduleByDate.add(new CompactDaysDetail(
+                    date,
+                    allMembersNum - unAvailableIndexes.length,
+                    unAvailableIndexes));
         }
 
-        // 6) map에 등록된 키를 하나씩 꺼내보면서 저장해야한다. 그럼 현재 일부터 월말까지 순회해야한다.
-        List<DaysDetail> MembersScheduleByDate = new ArrayList<>();
+        return new CompactMembersScheduleResponse(allMembersNum, members, MembersScheduleByDate);
+    }
 
-        for(LocalDate date = startOfMonth; !date.isAfter(endOfMonth); date = date.plusDays(1)){
-            // 불가능하다고 표시된 닉네임들 (해당 날짜에 없으면 넘김)
-            Set<String> unAvailableNicknames = members.get(date);
-            if(unAvailableNicknames == null) continue;
+    @Override
+    @Transactional
+    public void addIndividualSchedule(Long userId, String shareCode, List<ScheduleRequest> scheduleRequest) {
+
+        // 1) 사용자가 해당 미팅룸에 속해있는지 확인 및 User, MeetingRoom 객체 반환
+        UserMeetingRoom umr = userMeetingRoomRepository.findByUserIdAndMeetingRoomShareCode(userId, shareCode)
+                .orElseThrow(() -> new NotFoundException(M002));
 
-            List<String> UnAvailableMemberList = new ArrayList<>(unAvailableNicknames);
+        // 2) 쓰기 지연 모드라면 최종 스케줄을 슬롯에 보관하고 반환 (짧은 주기로 마지막 값만 DB에 반영)
+        if (scheduleWriteBehindQueue.isEnabled()) {
+            scheduleWriteBehindQueue.submit(userId, umr.getMeetingRoom().getId(),
+                    List.copyOf(new LinkedHashSet<>(scheduleRequest)));
+            return;
+        }
 
-            DaysDetail daysDetail = new DaysDetail(
-                    date,
-                    allMembersNum - UnAvailableMemberList.size(),
-                    UnAvailableMemberList);
+        // 3) 저장된 스케줄과 비교해서 추가/삭제된 시간대만 반영
+        individualScheduleWriter.replace(umr, scheduleRequest);
+    }
 
-            MembersScheduleByDate.add(daysDetail);
+    @Override
+    @Transactional
+    public void updateIndividualSchedule(Long userId, String shareCode, ScheduleOperationRequest request) {
+
+        // 1) 사용자가 해당 미팅룸에 속해있는지 확인 및 User, MeetingRoom 객체 반환
+        UserMeetingRoom umr = userMeetingRoomRepository.findByUserIdAndMeetingRoomShareCode(userId, shareCode)
+                .orElseThrow(() -> new NotFoundException(M002));
+
+        Set<ScheduleRequest> adds = request.add() == null ? Set.of() : new LinkedHashSet<>(request.add());
+        Set<ScheduleRequest> removes = request.remove() == null ? Set.of() : new HashSet<>(request.remove());
+
+        // 1-1) 쓰기 지연 모드라면 대기 중인 스케줄(없으면 저장된 스케줄)에 변경분을 적용한 최종 스케줄을 슬롯에 보관
+        if (scheduleWriteBehindQueue.isEnabled()) {
+            Long meetingRoomId = umr.getMeetingRoom().getId();
+            Set<ScheduleRequest> result = new LinkedHashSet<>(scheduleWriteBehindQueue.pending(userId, meetingRoomId)
+                    .orElseGet(() -> unavailableRepository.findAllByUserIdAndMeetingRoomId(userId, meetingRoomId).stream()
+                            .map(ScheduleRequest::from)
+                            .toList()));
+            result.removeAll(removes);
+            result.addAll(adds);
+            scheduleWriteBehindQueue.submit(userId, meetingRoomId, List.copyOf(result));
+            return;
         }
 
-        return new MembersScheduleListResponse(allMembersNum, MembersScheduleByDate);
+        // 2) 저장된 스케줄 중 삭제 요청된 시간대를 찾고, 최종 스케줄(저장된 값 - 삭제 + 추가)을 계산
+        List<UnavailableTime> stored = unavailableRepository
+                .findAllByUserIdAndMeetingRoomId(userId, umr.getMeetingRoom().getId());
+
+        List<Long> removeIds = new ArrayList<>();
+        Set<ScheduleRequest> result = new LinkedHashSet<>();
+        for (UnavailableTime ut : stored) {
+            ScheduleRequest key = ScheduleRequest.from(ut);
+            if (removes.contains(key)) removeIds.add(ut.getId());
+            else result.add(key);
+        }
+
+        // 3) 이미 저장된 시간대는 다시 추가하지 않음
+        List<ScheduleRequest> toAdd = adds.stream()
+                .filter(result::add)
+                .toList();
+
+        individualScheduleWriter.apply(umr, removeIds, toAdd, result);
     }
 
     @Override
     @Transactional
-    public void addIndividualSchedule(Long userId, String shareCode, List<ScheduleRequest> scheduleRequest) {
+    public void replaceWeeklySchedule(Long userId, String shareCode, List<WeeklyScheduleRequest> weeklyRequest) {
 
         // 1) 사용자가 해당 미팅룸에 속해있는지 확인 및 User, MeetingRoom 객체 반환
         UserMeetingRoom umr = userMeetingRoomRepository.findByUserIdAndMeetingRoomShareCode(userId, shareCode)
                 .orElseThrow(() -> new NotFoundException(M002));
+        Long meetingRoomId = umr.getMeetingRoom().getId();
 
-        // 2) 기존의 스케줄은 모두 삭제
-        unavailableRepository.clearAllScheduleByUser(umr.getUser().getId(), umr.getMeetingRoom().getId());
+        // 2) 반복 규칙은 요일별로 몇 개뿐이므로 기존 규칙을 모두 삭제하고 새로 저장
+        List<WeeklyScheduleRequest> rules = List.copyOf(new LinkedHashSet<>(weeklyRequest));
+        scheduleRepository.deleteScheduleInMeetingRoom(userId, meetingRoomId);
 
-        // 3) 새로 들어온 스케줄을 모두 입력
-        List<UnavailableTime> responseList = scheduleRequest.stream()
-                .map(sr -> UnavailableTime.builder()
-                        .unavailableDate(sr.unavailableDate())
-                        .unavailableStartTime(sr.unavailableStartTime())
-                        .unavailableEndTime(sr.unavailableEndTime())
+        List<Schedule> newList = rules.stream()
+                .map(wr -> Schedule.builder()
+                        .dayType(wr.dayType())
+                        .startTime(wr.startTime())
+                        .endTime(wr.endTime())
                         .user(umr.getUser())
                         .meetingRoom(umr.getMeetingRoom())
                         .build())
                 .toList();
+        scheduleRepository.saveAll(newList);
 
-        unavailableRepository.saveAll(responseList);
+        // 3) 커밋 이후 미팅룸 집계의 반복 규칙을 교체하고, 변경 카운터를 증가시켜 캐시 무효화
+        roomAvailabilityStore.replaceMemberRulesAfterCommit(meetingRoomId, userId, rules);
+        roomChangeCounter.increaseAfterCommit(meetingRoomId, RoomChangeType.SCHEDULE);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<WeeklyScheduleList> getMyWeeklySchedule(Long userId, String shareCode) {
+        // 1) 유저-미팅룸 조회
+        UserMeetingRoom umr = userMeetingRoomRepository.findByUserIdAndMeetingRoomShareCode(userId, shareCode)
+                .orElseThrow(() -> new NotFoundException(M002));
+
+        // 2) 사용자가 설정한 반복 규칙 반환
+        return scheduleRepository.findAllByMeetingRoomAndUser(userId, umr.getMeetingRoom().getId());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<RecommendList> getRecommendSchedule(String shareCode, DayType type) {
+        return getRecommendSchedulePage(shareCode, type, null, null, null).recommendations();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RecommendPageResponse getRecommendSchedulePage(String shareCode, DayType type, Integer days, Integer size, String cursor) {
         // 1) MeetingRoom 조회
-        MeetingRoom meetingRoom = meetingRoomRepository.findAllByShareCode(shareCode)
+        MeetingRoomSnapshot meetingRoom = meetingRoomSnapshotCache.findByShareCode(shareCode)
                 .orElseThrow(() -> new NotFoundException(M003));
 
-        // 2) 불가능한 시간대 반환
-        LocalDate today = LocalDate.now();
-        LocalTime currentTime = LocalTime.now();
-        List<UnavailableTimeList> unavailableTimes = unavailableRepository.findUnavailableTimes(
-                        meetingRoom.getId(), meetingRoom.getStartDate(), meetingRoom.getStartTime(), meetingRoom.getEndTime());
+        // 2) 검색 범위 설정
+        //   - 커서가 없다면: 오늘 또는 MeetingRoom의 startDate부터 days일 동안 검색
+        //   - 커서가 있다면: 이전 페이지가 멈춘 날짜부터 첫 요청에서 정한 종료 날짜까지 이어서 검색
+        int pageSize = clamp(size, defaultRecommendSize, maxRecommendSize);
+        int searchDays = clamp(days, defaultRecommendDays, maxRecommendDays);
+        LocalDate startDate;
+        LocalDate endDate;
+        if (cursor == null || cursor.isBlank()) {
+            LocalDate today = LocalDate.now();
+            startDate = today.isAfter(meetingRoom.startDate())
+                    ? today
+                    : meetingRoom.startDate();
+            endDate = startDate.plusDays(searchDays);
+        } else {
+            // 커서를 만든 요청과 미팅룸/검색 조건이 다르면 잘못된 커서로 처리
+            RecommendCursor decoded = RecommendCursor.decode(cursor, shareCode, type, days == null ? null : searchDays);
+            searchDays = decoded.days();
+            startDate = decoded.nextDate();
+            endDate = decoded.endDate();
+            if (startDate.plusDays(maxRecommendDays).isBefore(endDate)) throw new BadRequestException(S001);
+        }
 
-        // 2-1) 불가능한 시간대 병합
-        List<UnavailableTimeList> mergedUnavailableTimes = mergeUnavailableTimeWithSweepLine(unavailableTimes);
+        // 3) 미팅룸 집계 조회 (DB 반영을 기다리는 스케줄 포함)
+        RoomAvailability availability = scheduleWriteBehindQueue.withPending(meetingRoom.id(), roomAvailabilityStore.get(meetingRoom));
 
-        // 3) 최적의 시간대 찾기 (MAX_RECOMMEND_COUNT개만)
+        // 4) 최적의 시간대 찾기 (날짜별로 가장 긴 시간대, 페이지가 채워지면 즉시 중단)
         List<RecommendList> recommendedSlots = new ArrayList<>();
-        
-        // MeetingRoom의 startDate부터 90일 동안 검색
-        LocalDate currentDate = today.isAfter(meetingRoom.getStartDate()) 
-                ? today 
-                : meetingRoom.getStartDate();
-        LocalDate endDate = currentDate.plusDays(PLUSDAYS);
-        
-        while (!currentDate.isAfter(endDate) && recommendedSlots.size() < MAX_RECOMMEND_COUNT) {
+        LocalDate date = collectRecommendations(availability, type, startDate, endDate, pageSize, recommendedSlots);
+
+        // 5) 검색 범위가 남았다면 다음에 확인할 날짜를 커서로 반환
+        String nextCursor = date.isAfter(endDate)
+                ? null
+                : new RecommendCursor(shareCode, type, searchDays, date, endDate).encode();
+
+        return new RecommendPageResponse(recommendedSlots, nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RoomRecommendResponse> getBatchRecommendSchedule(List<String> shareCodes, DayType type) {
+        // 1) 요청한 미팅룸 한 번에 조회 (중복 제거, 최대 maxBatchRooms개를 넘으면 잘못된 요청으로 처리)
+        List<String> distinctCodes = shareCodes.stream()
+                .distinct()
+                .toList();
+        if (distinctCodes.size() > maxBatchRooms) throw new BadRequestException(S003);
+        Map<String, MeetingRoomSnapshot> roomByShareCode = new HashMap<>();
+        for (MeetingRoom mr : meetingRoomRepository.findAllByShareCodeIn(distinctCodes)) {
+            roomByShareCode.put(mr.getShareCode(), MeetingRoomSnapshot.from(mr));
+        }
+
+        // 2) 집계가 없는 미팅룸의 불가능한 시간대는 IN 쿼리 한 번으로 읽어서 집계 생성
+        Map<Long, RoomAvailability> availabilityByRoom = roomAvailabilityStore.getAll(roomByShareCode.values());
+
+        // 3) 미팅룸별 추천 시간대를 제한된 스레드 풀에서 병렬로 계산
+        LocalDate today = LocalDate.now();
+        List<CompletableFuture<RoomRecommendResponse>> futures = distinctCodes.stream()
+                .filter(roomByShareCode::containsKey)
+                .map(code -> {
+                    MeetingRoomSnapshot mr = roomByShareCode.get(code);
+                    RoomAvailability availability = scheduleWriteBehindQueue.withPending(mr.id(), availabilityByRoom.get(mr.id()));
+                    return CompletableFuture.supplyAsync(() -> {
+                        LocalDate startDate = today.isAfter(mr.startDate()) ? today : mr.startDate();
+                        List<RecommendList> recommendedSlots = new ArrayList<>();
+                        collectRecommendations(availability, type, startDate, startDate.plusDays(defaultRecommendDays),
+                                defaultRecommendSize, recommendedSlots);
+                        return new RoomRecommendResponse(code, recommendedSlots);
+                    }, recommendExecutor);
+                })
+                .toList();
+
+        // 4) 요청한 순서대로 반환 (존재하지 않는 미팅룸은 제외)
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
+    /**
+     * startDate부터 날짜별로 전원이 참석 가능한 가장 긴 시간대를 찾아 담고, size개가 채워지면 즉시 중단합니다.
+     * @return 다음에 확인할 날짜 (검색 범위를 모두 확인했다면 endDate 이후 날짜)
+     */
+    private LocalDate collectRecommendations(RoomAvailability availability, DayType type,
+                                             LocalDate startDate, LocalDate endDate, int size,
+                                             List<RecommendList> recommendedSlots) {
+        LocalDate date = startDate;
+        for (; !date.isAfter(endDate) && recommendedSlots.size() < size; date = date.plusDays(1)) {
             // DayType에 따른 필터링
-            if (!isValidDayType(currentDate, type)) {
-                currentDate = currentDate.plusDays(1);
-                continue;
-            }
-            
-            // MeetingRoom의 startTime ~ endTime 범위 생성
-            LocalDateTime dayStart = LocalDateTime.of(currentDate, meetingRoom.getStartTime());
-            LocalDateTime dayEnd = LocalDateTime.of(currentDate, meetingRoom.getEndTime());
-            
-            // 해당 날짜 범위에서 가능한 시간대 계산
-            List<RecommendList> dailyAvailableSlots = calculateAvailableSlots(
-                currentDate, dayStart, dayEnd, mergedUnavailableTimes
-            );
-            
-            // 해당 날짜의 최적 시간대 선택 (가장 긴 시간대)
-            if (!dailyAvailableSlots.isEmpty()) {
-                RecommendList longestSlot = findLongestTimeSlot(dailyAvailableSlots);
-                recommendedSlots.add(longestSlot);
-            }
-            
-            currentDate = currentDate.plusDays(1);
+            if (!isValidDayType(date, type)) continue;
+
+            availability.findLongestAvailableSlot(date).ifPresent(recommendedSlots::add);
         }
+        return date;
+    }
 
-        // 4) 날짜 및 시작 시간 기준 오름차순 정렬
-        recommendedSlots.sort(Comparator
-                .comparing(RecommendList::day)
-                .thenComparing(RecommendList::startTime));
+    @Override
+    @Transactional(readOnly = true)
+    public List<RankedRecommendList> getPartialRecommendSchedule(String shareCode, DayType type, Integer days, int minAvailable, Integer limit) {
+        // 0) 최소 참석 인원이 1명 미만이면 모든 시간대가 조건을 만족하므로 잘못된 요청으로 처리
+        if (minAvailable < 1) throw new BadRequestException(S002);
 
-        return recommendedSlots;
+        // 1) MeetingRoom 조회 및 전체 인원 수 조회
+        MeetingRoomSnapshot meetingRoom = meetingRoomSnapshotCache.findByShareCode(shareCode)
+                .orElseThrow(() -> new NotFoundException(M003));
+        int allMembersNum = meetingRoomRepository.findMemberCountById(meetingRoom.id())
+                .orElseThrow(() -> new NotFoundException(M003));
+
+        // 2) 검색 범위 설정
+        LocalDate today = LocalDate.now();
+        LocalDate startDate = today.isAfter(meetingRoom.startDate())
+                ? today
+                : meetingRoom.startDate();
+        LocalDate endDate = startDate.plusDays(clamp(days, defaultRecommendDays, maxRecommendDays));
+
+        // 3) DayType에 맞는 날짜만 추림
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            if (isValidDayType(date, type)) dates.add(date);
+        }
+
+        // 4) 미팅룸 집계에서 날짜별 최적 시간대 중 최소 참석 인원을 만족하는 것만 순위대로 상위 limit개 반환
+        RoomAvailability availability = scheduleWriteBehindQueue.withPending(meetingRoom.id(), roomAvailabilityStore.get(meetingRoom));
+        return availability.findBestSlots(dates, allMembersNum, minAvailable,
+                clamp(limit, DEFAULT_PARTIAL_RECOMMEND_COUNT, MAX_PARTIAL_RECOMMEND_COUNT));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<UnavailableTimeList> getAllUnavailableMyTimeList(Long userId, String shareCode) {
         // 1) 유저-미팅룸 조회
         UserMeetingRoom umr = userMeetingRoomRepository.findByUserIdAndMeetingRoomShareCode(userId, shareCode)
                 .orElseThrow(() -> new NotFoundException(M002));
 
-        // 2) 사용자가 설정한 모든 불가능한 시간대 반환
+        // 2) DB 반영을 기다리는 스케줄이 있다면 그 값을 반환 (read-your-writes)
+        Optional<List<ScheduleRequest>> pending = scheduleWriteBehindQueue.pending(userId, umr.getMeetingRoom().getId());
+        if (pending.isPresent()) {
+            return pending.get().stream()
+                    .map(sr -> new UnavailableTimeList(sr.unavailableDate(), sr.unavailableStartTime(), sr.unavailableEndTime()))
+                    .toList();
+        }
+
+        // 3) 사용자가 설정한 모든 불가능한 시간대 반환
         return unavailableRepository
                 .findAllByMeetingRoomAndUser(userId, umr.getMeetingRoom().getId());
     }
     
     /**
-     * 시간대 리스트 중 가장 긴 시간대를 찾습니다.
-     * @param timeSlots 시간대 리스트
-     * @return 가장 긴 시간대
+     * 요청값이 없다면 기본값을, 있다면 1 ~ max 범위로 보정한 값을 반환합니다.
      */
-    private RecommendList findLongestTimeSlot(List<RecommendList> timeSlots) {
-        return timeSlots.stream()
-                .max(Comparator.comparingLong(slot -> 
-                    java.time.Duration.between(slot.startTime(), slot.endTime()).toMinutes()
-                ))
-                .orElse(null);
+    private int clamp(Integer requested, int defaultValue, int max) {
+        if (requested == null) return defaultValue;
+        return Math.max(1, Math.min(requested, max));
     }
-    
+
     /**
      * DayType에 따라 해당 날짜가 유효한지 확인합니다.
      * @param date 확인할 날짜
@@ -208,136 +457,4 @@ public class ScheduleServiceImpl implements ScheduleService{
             case WEEKEND -> isWeekend;
         };
     }
-
-
-
-    /**
-     * 특정 날짜 범위에서 불가능한 시간대를 제외한 가능한 시간대를 계산합니다.
-     * @param date 계산할 날짜
-     * @param dayStart 가능한 날짜 범위 시작 시간
-     * @param dayEnd 가능한 날짜 범위 종료 시간
-     * @param unavailableTimes 불가능한 시간대 리스트
-     * @return 가능한 시간대 리스트
-     */
-    private List<RecommendList> calculateAvailableSlots(
-            LocalDate date,
-            LocalDateTime dayStart,
-            LocalDateTime dayEnd,
-            List<UnavailableTimeList> unavailableTimes) {
-        
-        List<RecommendList> availableSlots = new ArrayList<>();
-        
-        // 해당 날짜 범위와 겹치는 불가능한 시간대 필터링
-        List<UnavailableTimeList> overlappingUnavailable = unavailableTimes.stream()
-                .filter(unavailable -> 
-                    // 불가능한 시간이 dayStart ~ dayEnd 범위와 겹치는 경우
-                    unavailable.getStartDateTime().isBefore(dayEnd) &&
-                    unavailable.getEndDateTime().isAfter(dayStart)
-                )
-                .sorted(Comparator.comparing(UnavailableTimeList::getStartDateTime))
-                .toList();
-        
-        // 불가능한 시간대가 없으면 전체 범위를 가능한 시간으로 반환
-        if (overlappingUnavailable.isEmpty()) {
-            availableSlots.add(new RecommendList(
-                    date,
-                    dayStart.toLocalTime(),
-                    dayEnd.toLocalTime()
-            ));
-            return availableSlots;
-        }
-        
-        // 가능한 시간대 계산
-        LocalDateTime currentStart = dayStart;
-        
-        for (UnavailableTimeList unavailable : overlappingUnavailable) {
-            LocalDateTime unavailableStart = unavailable.getStartDateTime();
-            LocalDateTime unavailableEnd = unavailable.getEndDateTime();
-            
-            // 불가능한 시간이 범위보다 앞에 있으면 조정
-            if (unavailableStart.isBefore(dayStart)) {
-                unavailableStart = dayStart;
-            }
-            
-            // 불가능한 시간이 범위보다 뒤에 있으면 조정
-            if (unavailableEnd.isAfter(dayEnd)) {
-                unavailableEnd = dayEnd;
-            }
-            
-            // currentStart부터 불가능한 시간 시작까지가 가능한 시간
-            if (currentStart.isBefore(unavailableStart)) {
-                availableSlots.add(new RecommendList(
-                        date,
-                        currentStart.toLocalTime(),
-                        unavailableStart.toLocalTime()
-                ));
-            }
-            
-            // 다음 가능한 시간 시작점 업데이트
-            if (unavailableEnd.isAfter(currentStart)) {
-                currentStart = unavailableEnd;
-            }
-        }
-        
-        // 마지막 불가능한 시간 이후부터 dayEnd까지가 가능한 시간
-        if (currentStart.isBefore(dayEnd)) {
-            availableSlots.add(new RecommendList(
-                    date,
-                    currentStart.toLocalTime(),
-                    dayEnd.toLocalTime()
-            ));
-        }
-        
-        return availableSlots;
-    }
-
-    /**
-     * Sweepline 알고리즘을 사용하여 중복되는 시간대를 병합합니다.
-     * @param timeList 병합할 시간대 리스트
-     * @return 병합된 시간대 리스트
-     */
-    private List<UnavailableTimeList> mergeUnavailableTimeWithSweepLine(List<UnavailableTimeList> timeList) {
-        // 빈 리스트인 경우 그대로 반환
-        if (timeList == null || timeList.isEmpty()) {
-            return new ArrayList<>();
-        }
-
-        // 1) 시작 시간 기준으로 정렬
-        timeList.sort(Comparator.comparing(UnavailableTimeList::getStartDateTime));
-
-        // 2) 병합 결과를 저장할 리스트
-        List<UnavailableTimeList> mergedList = new ArrayList<>();
-
-        // 3) 첫 번째 시간대로 초기화
-        LocalDateTime start = timeList.get(0).getStartDateTime();
-        LocalDateTime end = timeList.get(0).getEndDateTime();
-
-        // 4) Sweepline 알고리즘 적용
-        for (int i = 1; i < timeList.size(); i++) {
-            UnavailableTimeList current = timeList.get(i);
-
-            // 현재 시작시간이 이전 종료시간보다 뒤라면 -> 겹치지 않는다.
-            if (!current.getStartDateTime().isBefore(end)) {
-                // 현재 구간까지 merge에 저장한다.
-                mergedList.add(new UnavailableTimeList(start, end));
-
-                // 새로운 구간 시작
-                start = current.getStartDateTime();
-                end = current.getEndDateTime();
-            }
-            // 현재 시작시간이 아직 이전구간의 종료시간보다 이전이다 -> 현재 시작시간이 이전구간에 겹쳐있다.
-            else {
-                // 지금 보는 구간이 과거의 종료기간보다 늦게 끝난다면 더 뒷 값으로 확장
-                if (current.getEndDateTime().isAfter(end)) {
-                    end = current.getEndDateTime();
-                }
-            }
-        }
-
-        // 5) 마지막 구간 추가
-        mergedList.add(new UnavailableTimeList(start, end));
-
-        return mergedList;
-    }
-
 }
@@ -0,0 +1,362 @@
+package com.whenwemeet.backend.domain.schedule.service.availability;
+
+import com.whenwemeet.backend.domain.schedule.dto.request.ScheduleRequest;
+import com.whenwemeet.backend.domain.schedule.dto.request.WeeklyScheduleRequest;
+import com.whenwemeet.backend.domain.schedule.dto.response.MemberUnavailableTime;
+import com.whenwemeet.backend.domain.schedule.dto.response.MemberWeeklyRule;
+import com.whenwemeet.backend.domain.schedule.dto.response.RankedRecommendList;
+import com.whenwemeet.backend.domain.schedule.dto.response.RecommendList;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 미팅룸 하나의 날짜별 가능 여부 집계입니다.
+ * 희망 시간대(startTime ~ endTime)를 고정 간격(SLOT_MINUTES)의 슬롯으로 나누고, 날짜마다 아래 정보를 유지합니다.
+ *  - 멤버별 불가능 슬롯 비트맵
+ *  - 슬롯별 불가능 인원 수
+ *  - 한 명이라도 불가능한 슬롯 비트맵 (전원 참석 추천용)
+ * 일정 제출 시에는 해당 멤버의 비트맵을 통째로 교체하면서 달라진 슬롯만 반영하므로, 같은 제출을 여러 번 반영해도 결과가 같습니다.
+ * 매주 반복되는 불가능 규칙은 요일별로 같은 구조를 따로 유지하고, 날짜를 조회할 때 해당 요일의 규칙과 합쳐서 계산합니다.
+ * 불가능한 시간대는 희망 시간대와 실제로 겹치는 부분만 반영합니다. 희망 시작 시간에 끝나거나 희망 종료 시간에 시작하는 시간대는
+ * 겹치지 않는 것으로 보며, 이는 기존 추천 조회의 조건(시작 < 희망 종료, 종료 > 희망 시작)과 같습니다.
+ * (기존 월별 캘린더 조회는 희망 시작 시간에 끝나는 시간대도 불가능으로 표시했지만, 추천 조회와 같은 기준으로 통일했습니다.)
+ */
+public class RoomAvailability {
+
+    public static final int SLOT_MINUTES = 10;
+
+    private final LocalTime dayStart;
+    private final LocalTime dayEnd;
+    private final int startMinute;
+    private final int slotCount;
+    private final Map<LocalDate, DayAvailability> days = new HashMap<>();
+    private final Map<DayOfWeek, DayAvailability> weekly = new EnumMap<>(DayOfWeek.class);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public RoomAvailability(LocalTime dayStart, LocalTime dayEnd) {
+        this.dayStart = dayStart;
+        this.dayEnd = dayEnd;
+        this.startMinute = toMinute(dayStart);
+        this.slotCount = Math.max(0, Math.ceilDiv(toMinute(dayEnd) - startMinute, SLOT_MINUTES));
+    }
+
+    /**
+     * DB에 저장된 불가능한 시간대 및 반복 규칙 전체로 집계를 생성합니다.
+     * @param dayStart 미팅룸 희망 시작 시간
+     * @param dayEnd 미팅룸 희망 종료 시간
+     * @param timeList 미팅룸의 멤버별 불가능한 시간대
+     * @param ruleList 미팅룸의 멤버별 매주 반복되는 불가능 규칙
+     * @return 생성된 집계
+     */
+    public static RoomAvailability of(LocalTime dayStart, LocalTime dayEnd,
+                                      List<MemberUnavailableTime> timeList, List<MemberWeeklyRule> ruleList) {
+        RoomAvailability availability = new RoomAvailability(dayStart, dayEnd);
+
+        Map<Long, Map<LocalDate, BitSet>> slotsByMember = new HashMap<>();
+        for (MemberUnavailableTime ut : timeList) {
+            availability.mark(
+                    slotsByMember.computeIfAbsent(ut.userId(), id -> new HashMap<>()),
+                    ut.unavailableDate(), ut.unavailableStartTime(), ut.unavailableEndTime());
+        }
+        slotsByMember.forEach((userId, slots) -> availability.applyMemberSlots(availability.days, userId, slots));
+
+        Map<Long, Map<DayOfWeek, BitSet>> ruleSlotsByMember = new HashMap<>();
+        for (MemberWeeklyRule rule : ruleList) {
+            availability.mark(
+                    ruleSlotsByMember.computeIfAbsent(rule.userId(), id -> new EnumMap<>(DayOfWeek.class)),
+                    DayOfWeek.of(rule.dayType().getValue()), rule.startTime(), rule.endTime());
+        }
+        ruleSlotsByMember.forEach((userId, slots) -> availability.applyMemberSlots(availability.weekly, userId, slots));
+
+        return availability;
+    }
+
+    public boolean matches(LocalTime dayStart, LocalTime dayEnd) {
+        return this.dayStart.equals(dayStart) && this.dayEnd.equals(dayEnd);
+    }
+
+    /**
+     * 멤버의 불가능한 시간대를 새로 제출된 값으로 교체합니다.
+     * 기존 비트맵과 비교해 달라진 슬롯의 인원 수만 갱신합니다.
+     * @param userId 일정을 제출한 멤버
+     * @param requests 새로 제출된 불가능한 시간대 전체
+     */
+    public void replaceMember(Long userId, List<ScheduleRequest> requests) {
+        Map<LocalDate, BitSet> newSlots = new HashMap<>();
+        for (ScheduleRequest sr : requests) {
+            mark(newSlots, sr.unavailableDate(), sr.unavailableStartTime(), sr.unavailableEndTime());
+        }
+        replaceMemberSlots(days, userId, newSlots);
+    }
+
+    /**
+     * 멤버의 매주 반복되는 불가능 규칙을 새로 제출된 값으로 교체합니다.
+     * @param userId 규칙을 제출한 멤버
+     * @param rules 새로 제출된 반복 규칙 전체
+     */
+    public void replaceMemberRules(Long userId, List<WeeklyScheduleRequest> rules) {
+        Map<DayOfWeek, BitSet> newSlots = new EnumMap<>(DayOfWeek.class);
+        for (WeeklyScheduleRequest rule : rules) {
+            mark(newSlots, DayOfWeek.of(rule.dayType().getValue()), rule.startTime(), rule.endTime());
+        }
+        replaceMemberSlots(weekly, userId, newSlots);
+    }
+
+    /**
+     * 미팅룸을 나간 멤버의 불가능한 시간대와 반복 규칙을 모두 제거합니다.
+     */
+    public void removeMember(Long userId) {
+        replaceMember(userId, List.of());
+        replaceMemberRules(userId, List.of());
+    }
+
+    /**
+     * 멤버들의 불가능한 시간대를 주어진 값으로 교체한 사본을 반환합니다. 원본 집계는 변경하지 않습니다.
+     * (쓰기 지연 큐에서 DB 반영을 기다리는 스케줄을 조회에 반영할 때 사용)
+     * @param requestsByMember 멤버 id -> 교체할 불가능한 시간대 전체
+     * @return 교체가 반영된 사본
+     */
+    public RoomAvailability withMembers(Map<Long, List<ScheduleRequest>> requestsByMember) {
+        RoomAvailability copy = new RoomAvailability(dayStart, dayEnd);
+        lock.readLock().lock();
+        try {
+            days.forEach((date, day) -> copy.days.put(date, day.copy(slotCount)));
+            weekly.forEach((dayOfWeek, day) -> copy.weekly.put(dayOfWeek, day.copy(slotCount)));
+        } finally {
+            lock.readLock().unlock();
+        }
+        requestsByMember.forEach(copy::replaceMember);
+        return copy;
+    }
+
+    /**
+     * 해당 날짜에서 전원이 참석 가능한 가장 긴 시간대를 찾습니다.
+     * BitSet의 nextClearBit / nextSetBit 는 word(long) 단위로 탐색하므로 하루당 비용이 슬롯 개수에만 비례합니다.
+     * @param date 탐색할 날짜
+     * @return 가장 긴 가능 시간대 (가능한 시간이 없다면 empty)
+     */
+    public Optional<RecommendList> findLongestAvailableSlot(LocalDate date) {
+        if (slotCount == 0) return Optional.empty();
+
+        lock.readLock().lock();
+        try {
+            DayAvailability day = dayOf(date);
+            if (day == null) {
+                return Optional.of(new RecommendList(date, toTime(0), toTime(slotCount)));
+            }
+
+            BitSet busy = day.busySlots;
+            int bestFrom = -1;
+            int bestLength = 0;
+            int from = busy.nextClearBit(0);
+            while (from < slotCount) {
+                int to = busy.nextSetBit(from);
+                if (to < 0 || to > slotCount) to = slotCount;
+
+                if (to - from > bestLength) {
+                    bestFrom = from;
+                    bestLength = to - from;
+                }
+                from = busy.nextClearBit(to);
+            }
+
+            return bestFrom < 0
+                    ? Optional.empty()
+                    : Optional.of(new RecommendList(date, toTime(bestFrom), toTime(bestFrom + bestLength)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 해당 날짜에서 참석 가능 인원이 가장 많은 시간대를 찾습니다. (인원이 같다면 더 긴 시간대)
+     * @param date 탐색할 날짜
+     * @param totalMembers 미팅룸 전체 인원 수
+     * @return 최적 시간대 (희망 시간대가 비어있다면 empty)
+     */
+    public Optional<RankedRecommendList> findBestSlot(LocalDate date, int totalMembers) {
+        if (slotCount == 0) return Optional.empty();
+
+        lock.readLock().lock();
+        try {
+            DayAvailability day = dayOf(date);
+            if (day == null) {
+                return Optional.of(new RankedRecommendList(date, toTime(0), toTime(slotCount), totalMembers, totalMembers));
+            }
+
+            // 불가능 인원이 같은 인접 슬롯을 하나의 구간으로 보고, 불가능 인원이 가장 적고 가장 긴 구간 선택
+            int[] busyCount = day.busyCount;
+            int bestFrom = 0;
+            int bestTo = 0;
+            int bestBusy = Integer.MAX_VALUE;
+            int from = 0;
+            for (int slot = 1; slot <= slotCount; slot++) {
+                if (slot < slotCount && busyCount[slot] == busyCount[from]) continue;
+
+                boolean better = busyCount[from] < bestBusy
+                        || (busyCount[from] == bestBusy && slot - from > bestTo - bestFrom);
+                if (better) {
+                    bestFrom = from;
+                    bestTo = slot;
+                    bestBusy = busyCount[from];
+                }
+                from = slot;
+            }
+
+            int available = Math.max(0, totalMembers - bestBusy);
+            return Optional.of(new RankedRecommendList(date, toTime(bestFrom), toTime(bestTo), available, totalMembers));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 날짜별 최적 시간대(findBestSlot) 중 참석 가능 인원이 minAvailable 이상인 것만 모아,
+     * 참석 가능 인원 내림차순 -> 시간대 길이 내림차순 -> 날짜 오름차순으로 상위 limit개를 반환합니다.
+     * @param dates 탐색할 날짜 목록
+     * @param totalMembers 미팅룸 전체 인원 수
+     * @param minAvailable 최소 참석 가능 인원 수
+     * @param limit 최대 반환 개수
+     * @return 순위대로 정렬된 최적 시간대
+     */
+    public List<RankedRecommendList> findBestSlots(List<LocalDate> dates, int totalMembers, int minAvailable, int limit) {
+        List<RankedRecommendList> candidates = new ArrayList<>();
+        for (LocalDate date : dates) {
+            findBestSlot(date, totalMembers)
+                    .filter(slot -> slot.availableCount() >= minAvailable)
+                    .ifPresent(candidates::add);
+        }
+
+        return candidates.stream()
+                .sorted(Comparator
+                        .comparing(RankedRecommendList::availableCount, Comparator.reverseOrder())
+                        .thenComparing(slot -> Duration.between(slot.startTime(), slot.endTime()), Comparator.reverseOrder())
+                        .thenComparing(RankedRecommendList::day))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 해당 날짜에 희망 시간대와 겹치는 불가능 일정을 등록한 멤버 목록 (경계만 맞닿은 일정은 제외)
+     */
+    public Set<Long> findUnavailableMembers(LocalDate date) {
+        lock.readLock().lock();
+        try {
+            DayAvailability day = dayOf(date);
+            return day == null ? Set.of() : Set.copyOf(day.memberSlots.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 날짜의 집계를 반환합니다. 해당 요일에 반복 규칙이 있다면 날짜별 일정과 합친 집계를 새로 만들어 반환합니다.
+     * (읽기 락을 잡은 상태에서 호출)
+     */
+    private DayAvailability dayOf(LocalDate date) {
+        DayAvailability dated = days.get(date);
+        DayAvailability rule = weekly.get(date.getDayOfWeek());
+        if (rule == null) return dated;
+        if (dated == null) return rule;
+        return dated.mergedWith(rule, slotCount);
+    }
+
+    private <K> void mark(Map<K, BitSet> slots, K key, LocalTime start, LocalTime end) {
+        // 슬롯의 일부만 겹치더라도 해당 슬롯 전체를 불가능으로 처리
+        int from = Math.max(0, Math.floorDiv(toMinute(start) - startMinute, SLOT_MINUTES));
+        int to = Math.min(slotCount, Math.ceilDiv(toMinute(end) - startMinute, SLOT_MINUTES));
+        if (from >= to) return;
+
+        slots.computeIfAbsent(key, k -> new BitSet(slotCount)).set(from, to);
+    }
+
+    private <K> void replaceMemberSlots(Map<K, DayAvailability> target, Long userId, Map<K, BitSet> newSlots) {
+        lock.writeLock().lock();
+        try {
+            // 기존에 일정이 있었지만 새 제출에서 빠진 날짜(요일)는 빈 비트맵으로 교체
+            for (Map.Entry<K, DayAvailability> entry : target.entrySet()) {
+                if (entry.getValue().memberSlots.containsKey(userId)) {
+                    newSlots.putIfAbsent(entry.getKey(), new BitSet(slotCount));
+                }
+            }
+            applyMemberSlots(target, userId, newSlots);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private <K> void applyMemberSlots(Map<K, DayAvailability> target, Long userId, Map<K, BitSet> slotsByKey) {
+        slotsByKey.forEach((key, newSlots) -> {
+            DayAvailability day = target.computeIfAbsent(key, k -> new DayAvailability(slotCount));
+            day.replace(userId, newSlots);
+            if (day.memberSlots.isEmpty()) target.remove(key);
+        });
+    }
+
+    private LocalTime toTime(int slot) {
+        return slot == slotCount ? dayEnd : dayStart.plusMinutes((long) slot * SLOT_MINUTES);
+    }
+
+    private static int toMinute(LocalTime time) {
+        return time.toSecondOfDay() / 60;
+    }
+
+    private static class DayAvailability {
+        private final Map<Long, BitSet> memberSlots = new HashMap<>();
+        private final int[] busyCount;
+        private final BitSet busySlots;
+
+        private DayAvailability(int slotCount) {
+            this.busyCount = new int[slotCount];
+            this.busySlots = new BitSet(slotCount);
+        }
+
+        private void replace(Long userId, BitSet newSlots) {
+            BitSet oldSlots = memberSlots.getOrDefault(userId, new BitSet());
+
+            // 기존/신규 비트맵에서 달라진 슬롯만 순회
+            BitSet changed = (BitSet) oldSlots.clone();
+            changed.xor(newSlots);
+            for (int slot = changed.nextSetBit(0); slot >= 0; slot = changed.nextSetBit(slot + 1)) {
+                if (newSlots.get(slot)) {
+                    if (busyCount[slot]++ == 0) busySlots.set(slot);
+                } else {
+                    if (--busyCount[slot] == 0) busySlots.clear(slot);
+                }
+            }
+
+            if (newSlots.isEmpty()) memberSlots.remove(userId);
+            else memberSlots.put(userId, newSlots);
+        }
+
+        /**
+         * 멤버별 비트맵은 교체만 되고 직접 변경되지 않으므로, 비트맵은 공유하고 집계만 새로 만듭니다.
+         */
+        private DayAvailability copy(int slotCount) {
+            DayAvailability copied = new DayAvailability(slotCount);
+            memberSlots.forEach(copied::replace);
+            return copied;
+        }
+
+        /**
+         * 두 집계를 멤버 단위로 합칩니다. (같은 멤버의 비트맵은 OR)
+         * 원본 비트맵은 변경하지 않습니다.
+         */
+        private DayAvailability mergedWith(DayAvailability other, int slotCount) {
+            DayAvailability merged = new DayAvailability(slotCount);
+            memberSlots.forEach(merged::replace);
+            other.memberSlots.forEach((userId, slots) -> {
+                BitSet union = (BitSet) slots.clone();
+                BitSet own = memberSlots.get(userId);
+                if (own != null) union.or(own);
+                merged.replace(userId, union);
+            });
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.whenwemeet.backend.domain.schedule.service.availability;
+
+import com.whenwemeet.backend.domain.meetingRoom.service.cache.MeetingRoomSnapshot;
+import com.whenwemeet.backend.domain.schedule.dto.request.ScheduleRequest;
+import com.whenwemeet.backend.domain.schedule.dto.request.WeeklyScheduleRequest;
+import com.whenwemeet.backend.domain.schedule.dto.response.MemberUnavailableTime;
+import com.whenwemeet.backend.domain.schedule.dto.response.MemberWeeklyRule;
+import com.whenwemeet.backend.domain.schedule.repository.ScheduleRepository;
+import com.whenwemeet.backend.domain.schedule.repository.UnavailableRepository;
+import com.whenwemeet.backend.global.datasource.PrimaryReader;
+import com.whenwemeet.backend.global.redis.RoomChangeCounter;
+import com.whenwemeet.backend.global.redis.RoomChangeEvent;
+import com.whenwemeet.backend.global.util.TransactionUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 미팅룸별 가능 여부 집계(RoomAvailability)를 메모리에 보관합니다.
+ * 1) 조회 시 집계가 없으면 해당 미팅룸의 불가능한 시간대와 반복 규칙을 한 번만 읽어 생성합니다.
+ * 2) 이후 일정 제출/퇴장은 트랜잭션 커밋 후 변경된 멤버만 집계에 반영하므로, 조회 비용이 저장된 행 수에 비례하지 않습니다.
+ * 3) 다른 서버 인스턴스에서 발생한 변경은 RoomChangeCounter.CHANNEL로 수신해 해당 미팅룸의 집계를 폐기하고, 다음 조회에서 새로 생성합니다.
+ * 4) 집계마다 반영된 미팅룸 변경 카운터(version)를 함께 보관하므로, 특정 버전 이상이 필요한 조회(월별 캘린더 캐시)는
+ *    그보다 오래된 집계를 사용하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomAvailabilityStore implements MessageListener {
+
+    private static final int MAX_CACHED_ROOMS = 1_000;
+    private static final long UNKNOWN_VERSION = -1L;
+
+    private final UnavailableRepository unavailableRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final PrimaryReader primaryReader;
+    private final RoomChangeCounter roomChangeCounter;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final JsonMapper jsonMapper;
+
+    // 집계 생성 도중 쓰기가 커밋됐다면, 생성한 집계는 이번 조회에만 사용하고 보관하지 않습니다.
+    // 비교 후 보관과 커밋 이후 반영은 모두 rooms를 잠근 상태에서 실행하므로, 비교를 통과한 직후 커밋된 변경이 누락되지 않습니다.
+    private final AtomicLong writeGeneration = new AtomicLong();
+
+    private final Map<Long, CachedRoom> rooms = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, CachedRoom> eldest) {
+                    return size() > MAX_CACHED_ROOMS;
+                }
+            });
+
+    /**
+     * 보관된 집계와, 집계에 반영된 것이 확실한 미팅룸 변경 카운터 (알 수 없다면 UNKNOWN_VERSION)
+     */
+    private record CachedRoom(RoomAvailability availability, long version) {
+
+        boolean isUsable(MeetingRoomSnapshot meetingRoom, long minVersion) {
+            return availability.matches(meetingRoom.startTime(), meetingRoom.endTime()) && version >= minVersion;
+        }
+    }
+
+    @PostConstruct
+    void subscribeChannel() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(RoomChangeCounter.CHANNEL));
+    }
+
+    /**
+     * 미팅룸의 집계를 반환합니다. 보관된 집계가 없거나 희망 시간대가 바뀌었다면 새로 생성합니다.
+     */
+    public RoomAvailability get(MeetingRoomSnapshot meetingRoom) {
+        return get(meetingRoom, UNKNOWN_VERSION);
+    }
+
+    /**
+     * 미팅룸 변경 카운터 minVersion 이후의 변경이 모두 반영된 집계를 반환합니다.
+     * 보관된 집계가 그보다 오래됐다면(다른 인스턴스의 변경 이벤트가 아직 도착하지 않은 경우 등) 새로 생성합니다.
+     */
+    public RoomAvailability get(MeetingRoomSnapshot meetingRoom, long minVersion) {
+        CachedRoom cached = rooms.get(meetingRoom.id());
+        if (cached != null && cached.isUsable(meetingRoom, minVersion)) {
+            return cached.availability();
+        }
+
+        // 보관된 집계는 이후 변경분만 반영되므로, 복제 지연된 replica가 아닌 primary에서 읽어 생성
+        // 변경 카운터는 커밋 이후 증가하므로, 카운터를 먼저 읽고 DB를 읽으면 해당 버전까지의 변경이 모두 포함됨
+        long generation = writeGeneration.get();
+        long version = currentVersion(meetingRoom.id());
+        List<MemberUnavailableTime> times = primaryReader.read(() ->
+                unavailableRepository.findMemberUnavailableTimes(meetingRoom.id()));
+        List<MemberWeeklyRule> rules = primaryReader.read(() ->
+                scheduleRepository.findMemberWeeklyRules(meetingRoom.id()));
+        RoomAvailability loaded = RoomAvailability.of(meetingRoom.startTime(), meetingRoom.endTime(), times, rules);
+
+        synchronized (rooms) {
+            if (writeGeneration.get() == generation) rooms.put(meetingRoom.id(), new CachedRoom(loaded, version));
+        }
+        return loaded;
+    }
+
+    /**
+     * 여러 미팅룸의 집계를 한 번에 반환합니다.
+     * 보관된 집계가 없는 미팅룸만 모아, 불가능한 시간대와 반복 규칙을 각각 IN 쿼리 한 번으로 읽어 생성합니다.
+     * @return 미팅룸 id -> 집계
+     */
+    public Map<Long, RoomAvailability> getAll(Collection<MeetingRoomSnapshot> meetingRooms) {
+        Map<Long, RoomAvailability> result = new HashMap<>();
+        List<MeetingRoomSnapshot> missing = new ArrayList<>();
+        for (MeetingRoomSnapshot meetingRoom : meetingRooms) {
+            CachedRoom cached = rooms.get(meetingRoom.id());
+            if (cached != null && cached.isUsable(meetingRoom, UNKNOWN_VERSION)) {
+                result.put(meetingRoom.id(), cached.availability());
+            } else {
+                missing.add(meetingRoom);
+            }
+        }
+        if (missing.isEmpty()) return result;
+
+        long generation = writeGeneration.get();
+        List<Long> missingIds = missing.stream().map(MeetingRoomSnapshot::id).toList();
+        Map<Long, Long> versionByRoom = currentVersions(missingIds);
+        Map<Long, List<MemberUnavailableTime>> timesByRoom = primaryReader.read(() ->
+                unavailableRepository.findMemberUnavailableTimesGroupByMeetingRoom(missingIds));
+        Map<Long, List<MemberWeeklyRule>> rulesByRoom = primaryReader.read(() ->
+                scheduleRepository.findMemberWeeklyRulesGroupByMeetingRoom(missingIds));
+
+        Map<Long, CachedRoom> loadedByRoom = new HashMap<>();
+        for (MeetingRoomSnapshot meetingRoom : missing) {
+            RoomAvailability loaded = RoomAvailability.of(
+                    meetingRoom.startTime(),
+                    meetingRoom.endTime(),
+                    timesByRoom.getOrDefault(meetingRoom.id(), List.of()),
+                    rulesByRoom.getOrDefault(meetingRoom.id(), List.of()));
+            loadedByRoom.put(meetingRoom.id(), new CachedRoom(loaded, versionByRoom.getOrDefault(meetingRoom.id(), UNKNOWN_VERSION)));
+            result.put(meetingRoom.id(), loaded);
+        }
+
+        synchronized (rooms) {
+            if (writeGeneration.get() == generation) rooms.putAll(loadedByRoom);
+        }
+        return result;
+    }
+
+    /**
+     * 커밋 이후 멤버의 불가능한 시간대를 새로 제출된 값으로 교체합니다.
+     */
+    public void replaceMemberAfterCommit(Long meetingRoomId, Long userId, List<ScheduleRequest> requests) {
+        afterCommit(() -> {
+            CachedRoom cached = rooms.get(meetingRoomId);
+            if (cached != null) cached.availability().replaceMember(userId, requests);
+        });
+    }
+
+    /**
+     * 커밋 이후 멤버의 매주 반복되는 불가능 규칙을 새로 제출된 값으로 교체합니다.
+     */
+    public void replaceMemberRulesAfterCommit(Long meetingRoomId, Long userId, List<WeeklyScheduleRequest> rules) {
+        afterCommit(() -> {
+            CachedRoom cached = rooms.get(meetingRoomId);
+            if (cached != null) cached.availability().replaceMemberRules(userId, rules);
+        });
+    }
+
+    /**
+     * 커밋 이후 미팅룸을 나간 멤버를 집계에서 제거합니다.
+     */
+    public void removeMemberAfterCommit(Long meetingRoomId, Long userId) {
+        afterCommit(() -> {
+            CachedRoom cached = rooms.get(meetingRoomId);
+            if (cached != null) cached.availability().removeMember(userId);
+        });
+    }
+
+    /**
+     * 커밋 이후 미팅룸의 집계를 폐기합니다. (미팅룸 삭제, 게스트 계정 병합 등)
+     */
+    public void evictAfterCommit(Long meetingRoomId) {
+        afterCommit(() -> rooms.remove(meetingRoomId));
+    }
+
+    /**
+     * 미팅룸 변경 이벤트를 수신하면 집계의 버전을 맞춥니다.
+     * 1) 다른 서버 인스턴스에서 커밋된 변경이라면, 집계에 반영되지 않은 변경이므로 해당 미팅룸의 집계를 폐기합니다.
+     * 2) 이 인스턴스에서 커밋된 변경이라면 커밋 이후 이미 집계에 반영됐으므로(카운터 증가보다 먼저 등록된 작업),
+     *    바로 이전 버전까지 반영된 집계의 버전만 올립니다. (중간 버전을 놓쳤다면 그대로 두어 필요할 때 새로 생성)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        RoomChangeEvent event;
+        try {
+            event = jsonMapper.readValue(message.getBody(), RoomChangeEvent.class);
+        } catch (Exception e) {
+            log.error("미팅룸 변경 이벤트 역직렬화 실패: {}", e.getMessage());
+            return;
+        }
+        boolean local = roomChangeCounter.instanceId().equals(event.origin());
+
+        synchronized (rooms) {
+            CachedRoom cached = rooms.get(event.meetingRoomId());
+            if (cached != null && cached.version() >= event.version()) return;
+
+            if (!local) {
+                // 생성 중인 집계가 변경 이전 데이터일 수 있으므로 보관된 집계가 없더라도 세대를 올림
+                writeGeneration.incrementAndGet();
+                rooms.remove(event.meetingRoomId());
+            } else if (cached != null && cached.version() == event.version() - 1) {
+                rooms.put(event.meetingRoomId(), new CachedRoom(cached.availability(), event.version()));
+            }
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        TransactionUtil.runAfterCommit(() -> {
+            synchronized (rooms) {
+                writeGeneration.incrementAndGet();
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 미팅룸의 현재 변경 카운터를 조회합니다. Redis 장애 시에는 버전을 알 수 없는 집계로 생성합니다.
+     */
+    private long currentVersion(Long meetingRoomId) {
+        try {
+            return roomChangeCounter.current(meetingRoomId);
+        } catch (Exception e) {
+            log.error("미팅룸 변경 카운터 조회 실패 (meetingRoomId={}): {}", meetingRoomId, e.getMessage());
+            return UNKNOWN_VERSION;
+        }
+    }
+
+    private Map<Long, Long> currentVersions(List<Long> meetingRoomIds) {
+        try {
+            return roomChangeCounter.current(meetingRoomIds);
+        } catch (Exception e) {
+            log.error("미팅룸 변경 카운터 조회 실패 (meetingRoomIds={}): {}", meetingRoomIds, e.getMessage());
+            return Map.of();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.whenwemeet.backend.domain.schedule.service.cache;
+
+import com.whenwemeet.backend.domain.schedule.dto.response.CompactMembersScheduleResponse;
+import com.whenwemeet.backend.global.redis.RoomChangeCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.function.LongFunction;
+
+/**
+ * 월별 캘린더 응답을 compact 형태(CompactMembersScheduleResponse)로 Redis에 캐싱합니다.
+ * 캐시 키에 미팅룸 변경 카운터를 포함하므로, 일정 제출/입장/퇴장으로 카운터가 증가하면 이전 캐시는 더 이상 조회되지 않고 TTL로 정리됩니다.
+ * 공유 캐시에 변경 이전 응답이 저장되지 않도록, 응답은 키에 포함된 카운터 이후의 변경이 모두 반영된 데이터로만 계산합니다.
+ * Redis 장애 시에는 캐시 없이 직접 계산한 결과를 반환합니다.
+ * 조회 결과는 schedule.calendar.cache 카운터에 result=hit/miss/error 태그로 기록합니다.
+ */
+@Slf4j
+@Component
+public class MonthlyScheduleCache {
+
+    private static final String KEY_PREFIX = "calendar:v2:";
+    private static final Duration TTL = Duration.ofMinutes(30);
+    private static final long ANY_VERSION = -1L;   // 카운터를 조회할 수 없다면 버전과 관계없이 보관된 집계로 계산
+
+    private final StringRedisTemplate redisTemplate;
+    private final RoomChangeCounter roomChangeCounter;
+    private final JsonMapper jsonMapper;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter errorCounter;
+
+    public MonthlyScheduleCache(StringRedisTemplate redisTemplate,
+                                RoomChangeCounter roomChangeCounter,
+                                JsonMapper jsonMapper,
+                                MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.roomChangeCounter = roomChangeCounter;
+        this.jsonMapper = jsonMapper;
+        this.hitCounter = Counter.builder("schedule.calendar.cache")
+                .tag("result", "hit")
+                .description("월별 캘린더 캐시 조회 결과")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("schedule.calendar.cache")
+                .tag("result", "miss")
+                .description("월별 캘린더 캐시 조회 결과")
+                .register(meterRegistry);
+        this.errorCounter = Counter.builder("schedule.calendar.cache")
+                .tag("result", "error")
+                .description("월별 캘린더 캐시 조회 결과")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 응답이 있으면 반환하고, 없으면 계산 후 저장합니다.
+     * @param meetingRoomId 미팅룸 id
+     * @param year 조회 연도
+     * @param month 조회 월
+     * @param loader 캐시가 없을 때 응답을 계산하는 함수 (인자로 받은 변경 카운터 이후의 변경이 모두 반영된 데이터로 계산해야 함)
+     * @return 월별 캘린더 응답
+     */
+    public CompactMembersScheduleResponse getOrLoad(Long meetingRoomId, int year, int month,
+                                                    LongFunction<CompactMembersScheduleResponse> loader) {
+        String key;
+        long version;
+        try {
+            version = roomChangeCounter.current(meetingRoomId);
+            key = KEY_PREFIX + meetingRoomId + ":" + year + "-" + month + ":" + version;
+
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                CompactMembersScheduleResponse response = jsonMapper.readValue(cached, CompactMembersScheduleResponse.class);
+                hitCounter.increment();
+                return response;
+            }
+        } catch (Exception e) {
+            log.error("월별 캘린더 캐시 조회 실패 (meetingRoomId={}): {}", meetingRoomId, e.getMessage());
+            errorCounter.increment();
+            return loader.apply(ANY_VERSION);
+        }
+
+        missCounter.increment();
+        CompactMembersScheduleResponse response = loader.apply(version);
+
+        try {
+            redisTemplate.opsForValue().set(key, jsonMapper.writeValueAsString(response), TTL);
+        } catch (Exception e) {
+            log.error("월별 캘린더 캐시 저장 실패 (meetingRoomId={}): {}", meetingRoomId, e.getMessage());
+        }
+        return response;
+    }
+}
@@ -0,0 +1,97 @@
+package com.whenwemeet.backend.domain.schedule.service.write;
+
+import com.whenwemeet.backend.domain.meetingRoom.entity.UserMeetingRoom;
+import com.whenwemeet.backend.domain.meetingRoom.repository.UserMeetingRoomRepository;
+import com.whenwemeet.backend.domain.schedule.dto.request.ScheduleRequest;
+import com.whenwemeet.backend.domain.schedule.entity.UnavailableTime;
+import com.whenwemeet.backend.domain.schedule.repository.UnavailableRepository;
+import com.whenwemeet.backend.domain.schedule.service.availability.RoomAvailabilityStore;
+import com.whenwemeet.backend.global.redis.RoomChangeCounter;
+import com.whenwemeet.backend.global.redis.RoomChangeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * 사용자의 불가능한 시간대를 DB에 반영합니다.
+ * 요청 처리(동기 저장)와 쓰기 지연 큐의 flush가 같은 반영 로직을 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class IndividualScheduleWriter {
+
+    private final UnavailableRepository unavailableRepository;
+    private final UserMeetingRoomRepository userMeetingRoomRepository;
+    private final RoomAvailabilityStore roomAvailabilityStore;
+    private final RoomChangeCounter roomChangeCounter;
+
+    /**
+     * 사용자의 스케줄을 desired로 교체합니다. (쓰기 지연 큐의 flush에서 사용)
+     * @return 사용자가 미팅룸에 더 이상 속해있지 않아 반영하지 않았다면 false
+     */
+    @Transactional
+    public boolean replace(Long userId, Long meetingRoomId, Collection<ScheduleRequest> desired) {
+        Optional<UserMeetingRoom> umr = userMeetingRoomRepository.findByUserIdAndMeetingRoomId(userId, meetingRoomId);
+        umr.ifPresent(found -> replace(found, desired));
+        return umr.isPresent();
+    }
+
+    /**
+     * 저장된 스케줄과 비교해서 추가/삭제된 시간대만 반영합니다.
+     */
+    public void replace(UserMeetingRoom umr, Collection<ScheduleRequest> desired) {
+        Set<ScheduleRequest> desiredSet = new LinkedHashSet<>(desired);
+        List<UnavailableTime> stored = unavailableRepository
+                .findAllByUserIdAndMeetingRoomId(umr.getUser().getId(), umr.getMeetingRoom().getId());
+
+        List<Long> removeIds = new ArrayList<>();
+        Set<ScheduleRequest> kept = new HashSet<>();
+        for (UnavailableTime ut : stored) {
+            ScheduleRequest key = ScheduleRequest.from(ut);
+            // 요청에 없거나, 이미 같은 시간대가 남아있는 중복 행이라면 삭제
+            if (!desiredSet.contains(key) || !kept.add(key)) removeIds.add(ut.getId());
+        }
+
+        List<ScheduleRequest> toAdd = desiredSet.stream()
+                .filter(sr -> !kept.contains(sr))
+                .toList();
+
+        apply(umr, removeIds, toAdd, desiredSet);
+    }
+
+    /**
+     * 계산된 변경분(삭제할 행, 추가할 시간대)만 DB에 반영하고, 커밋 이후 미팅룸 집계를 최종 스케줄로 교체합니다.
+     * @param umr 일정을 제출한 사용자-미팅룸
+     * @param removeIds 삭제할 UnavailableTime id 리스트
+     * @param toAdd 새로 추가할 시간대 리스트
+     * @param result 변경 반영 이후 사용자의 전체 스케줄
+     */
+    public void apply(UserMeetingRoom umr, List<Long> removeIds, List<ScheduleRequest> toAdd, Collection<ScheduleRequest> result) {
+        if (!removeIds.isEmpty()) {
+            unavailableRepository.deleteAllByIdIn(removeIds);
+        }
+
+        if (!toAdd.isEmpty()) {
+            List<UnavailableTime> newList = toAdd.stream()
+                    .map(sr -> UnavailableTime.builder()
+                            .unavailableDate(sr.unavailableDate())
+                            .unavailableStartTime(sr.unavailableStartTime())
+                            .unavailableEndTime(sr.unavailableEndTime())
+                            .user(umr.getUser())
+                            .meetingRoom(umr.getMeetingRoom())
+                            .build())
+                    .toList();
+
+            unavailableRepository.saveAll(newList);
+        }
+
+        // 커밋 이후 미팅룸 집계에 변경된 멤버의 일정만 반영하고, 변경 카운터를 증가시켜 캐시 무효화
+        if (!removeIds.isEmpty() || !toAdd.isEmpty()) {
+            roomAvailabilityStore.replaceMemberAfterCommit(
+                    umr.getMeetingRoom().getId(), umr.getUser().getId(), List.copyOf(result));
+            roomChangeCounter.increaseAfterCommit(umr.getMeetingRoom().getId(), RoomChangeType.SCHEDULE);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.whenwemeet.backend.domain.schedule.service.write;
+
+import com.whenwemeet.backend.domain.schedule.dto.request.ScheduleRequest;
+import com.whenwemeet.backend.domain.schedule.service.availability.RoomAvailability;
+import com.whenwemeet.backend.global.redis.RecentWriteStore;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일정 제출 쓰기 지연(write-behind) 큐 (schedule.write-behind.enabled=true 일 때만 사용)
+ * 1) 제출된 스케줄은 (사용자, 미팅룸)별 슬롯 하나에 보관되며, 같은 슬롯에 다시 제출되면 마지막 값만 남습니다.
+ * 2) flush-interval-ms 마다 슬롯을 DB에 반영합니다. 반영 도중 새 값이 제출됐다면 슬롯을 지우지 않고 다음 주기에 다시 반영합니다.
+ * 3) 반영 전에도 본인 스케줄 조회는 슬롯 값을 반환하고, 캘린더/추천 조회는 미팅룸 집계에 슬롯 값을 덮어쓴 사본으로 계산합니다(read-your-writes).
+ *    미팅룸 집계 교체와 변경 카운터 증가는 DB 반영이 커밋된 이후에만 실행하므로(IndividualScheduleWriter),
+ *    새 버전의 캘린더 캐시나 다른 서버 인스턴스가 DB에 없는 값을 기준으로 만들어지지 않습니다.
+ *    슬롯은 서버 인스턴스의 메모리에만 있으므로, 다른 인스턴스의 조회에는 flush 이후에 반영됩니다. (단일 인스턴스 배포 전용)
+ * 4) 대기 중인 슬롯 수(schedule.write-behind.pending)와 제출부터 DB 반영까지의 지연(schedule.write-behind.lag)을 Micrometer로 노출합니다.
+ */
+@Slf4j
+@Component
+public class ScheduleWriteBehindQueue {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final IndividualScheduleWriter individualScheduleWriter;
+    private final RecentWriteStore recentWriteStore;
+    private final boolean enabled;
+    private final Timer lagTimer;
+
+    private final Map<Slot, PendingSchedule> slots = new ConcurrentHashMap<>();
+
+    public ScheduleWriteBehindQueue(IndividualScheduleWriter individualScheduleWriter,
+                                    RecentWriteStore recentWriteStore,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${schedule.write-behind.enabled}") boolean enabled) {
+        this.individualScheduleWriter = individualScheduleWriter;
+        this.recentWriteStore = recentWriteStore;
+        this.enabled = enabled;
+        this.lagTimer = Timer.builder("schedule.write-behind.lag")
+                .description("일정 제출부터 DB 반영까지 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("schedule.write-behind.pending", slots, Map::size)
+                .description("DB 반영을 기다리는 (사용자, 미팅룸) 슬롯 수")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 사용자의 최종 스케줄을 슬롯에 보관합니다. (이전에 보관된 값은 덮어씀)
+     * 미팅룸 집계와 변경 카운터는 flush에서 DB 반영이 커밋된 이후에 갱신됩니다.
+     */
+    public void submit(Long userId, Long meetingRoomId, List<ScheduleRequest> schedules) {
+        slots.put(new Slot(userId, meetingRoomId), new PendingSchedule(List.copyOf(schedules), System.nanoTime(), 0));
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 사용자의 스케줄을 반환합니다.
+     */
+    public Optional<List<ScheduleRequest>> pending(Long userId, Long meetingRoomId) {
+        return Optional.ofNullable(slots.get(new Slot(userId, meetingRoomId)))
+                .map(PendingSchedule::schedules);
+    }
+
+    /**
+     * 미팅룸에 DB 반영을 기다리는 스케줄이 있는지 확인합니다.
+     */
+    public boolean hasPending(Long meetingRoomId) {
+        return !slots.isEmpty() && slots.keySet().stream()
+                .anyMatch(slot -> slot.meetingRoomId().equals(meetingRoomId));
+    }
+
+    /**
+     * 미팅룸 집계에 아직 DB에 반영되지 않은 스케줄을 덮어쓴 사본을 반환합니다. (대기 중인 스케줄이 없다면 집계를 그대로 반환)
+     * 보관된 집계는 DB 반영이 커밋된 이후에만 갱신되어야 하므로 원본은 변경하지 않습니다.
+     */
+    public RoomAvailability withPending(Long meetingRoomId, RoomAvailability availability) {
+        if (slots.isEmpty()) return availability;
+
+        Map<Long, List<ScheduleRequest>> pendingByUser = new HashMap<>();
+        slots.forEach((slot, pending) -> {
+            if (slot.meetingRoomId().equals(meetingRoomId)) pendingByUser.put(slot.userId(), pending.schedules());
+        });
+        return pendingByUser.isEmpty() ? availability : availability.withMembers(pendingByUser);
+    }
+
+    /**
+     * 사용자가 미팅룸을 나갔다면 반영 대기 중인 스케줄을 버립니다.
+     */
+    public void discard(Long userId, Long meetingRoomId) {
+        slots.remove(new Slot(userId, meetingRoomId));
+    }
+
+    /**
+     * 미팅룸이 삭제됐다면 해당 미팅룸의 반영 대기 중인 스케줄을 모두 버립니다.
+     */
+    public void discardRoom(Long meetingRoomId) {
+        slots.keySet().removeIf(slot -> slot.meetingRoomId().equals(meetingRoomId));
+    }
+
+    @Scheduled(fixedDelayString = "${schedule.write-behind.flush-interval-ms}")
+    public void flush() {
+        if (!enabled || slots.isEmpty()) return;
+        slots.forEach(this::flush);
+    }
+
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+
+    private void flush(Slot slot, PendingSchedule pending) {
+        try {
+            if (!individualScheduleWriter.replace(slot.userId(), slot.meetingRoomId(), pending.schedules())) {
+                log.info("미팅룸을 나간 사용자의 대기 중인 일정은 반영하지 않습니다. (userId={}, meetingRoomId={})",
+                        slot.userId(), slot.meetingRoomId());
+            }
+            // 슬롯을 지우기 전에 최근 쓰기로 표시해, 이후 본인 조회가 복제 지연된 replica를 읽지 않도록 함
+            recentWriteStore.markUser(slot.userId());
+
+            // 반영하는 동안 새 값이 제출됐다면 슬롯을 남겨 다음 주기에 반영
+            slots.remove(slot, pending);
+            lagTimer.record(System.nanoTime() - pending.submittedAt(), TimeUnit.NANOSECONDS);
+        } catch (Exception e) {
+            if (pending.attempts() + 1 >= MAX_ATTEMPTS) {
+                slots.remove(slot, pending);
+                log.error("대기 중인 일정 반영 실패, 폐기합니다. (userId={}, meetingRoomId={}): {}",
+                        slot.userId(), slot.meetingRoomId(), e.getMessage());
+            } else {
+                slots.replace(slot, pending, pending.retried());
+                log.warn("대기 중인 일정 반영 실패, 다음 주기에 재시도합니다. (userId={}, meetingRoomId={}): {}",
+                        slot.userId(), slot.meetingRoomId(), e.getMessage());
+            }
+        }
+    }
+
+    private record Slot(Long userId, Long meetingRoomId) {}
+
+    private record PendingSchedule(List<ScheduleRequest> schedules, long submittedAt, int attempts) {
+        PendingSchedule retried() {
+            return new PendingSchedule(schedules, submittedAt, attempts + 1);
+        }
+    }
+}
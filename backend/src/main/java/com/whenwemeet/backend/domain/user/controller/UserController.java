@@ -55,7 +55,7 @@ public class UserController {
 
     @GetMapping("/test")
     public ResponseEntity<CommonResponse<?>> testAPI (@AuthenticationPrincipal CustomOAuth2User user){
-        UserType role = user.getUser().getRole();
+        UserType role = user.getRole();
         User detail = userRepository.findUserById(user.getId())
                 .orElseThrow(() -> new NotFoundException(A001));
         if(role == UserType.GUEST){
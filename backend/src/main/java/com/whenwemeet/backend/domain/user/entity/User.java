@@ -43,6 +43,11 @@ public class User extends BaseEntity {
     @Column(name="profile_img_url")
     private String profileImgUrl;
 
+    // 참여중인 미팅룸 수 (미팅룸 생성/입장/퇴장/삭제, 게스트 병합 시 UserRepository의 벌크 UPDATE로 원자적으로 증감)
+    @Builder.Default
+    @Column(name = "meeting_room_count", nullable = false)
+    private Integer meetingRoomCount = 0;
+
 //    public static User createGuest(){
 //        return User.builder()
 //                .nickname(new RandomNickname().generateNickname())
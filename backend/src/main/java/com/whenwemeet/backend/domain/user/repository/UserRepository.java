@@ -2,8 +2,16 @@ package com.whenwemeet.backend.domain.user.repository;
 
 import com.whenwemeet.backend.domain.user.entity.User;
 import com.whenwemeet.backend.domain.user.repository.custom.UserCustomRepository;
+import com.whenwemeet.backend.domain.user.entity.UserType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long>, UserCustomRepository {
@@ -11,4 +19,50 @@ public interface UserRepository extends JpaRepository<User, Long>, UserCustomRep
     Optional<User> findUserByProviderAndProviderID(String provider, String providerId);
 
     Optional<User> findUserById(Long userId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update User u
+            set u.meetingRoomCount = u.meetingRoomCount + :delta
+            where u.id = :userId""")
+    void addMeetingRoomCount(Long userId, int delta);
+
+    /**
+     * 삭제될 미팅룸에 참여중인 사용자마다, 그중 참여중인 미팅룸 수만큼 참여 미팅룸 수를 감소시킵니다.
+     * 미팅룸의 참여 정보(user_meeting_room)를 삭제하기 전에 같은 트랜잭션에서 호출해야 합니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            update users u
+            set u.meeting_room_count = u.meeting_room_count - (select count(*)
+                                                               from user_meeting_room umr
+                                                               where umr.user_id = u.id
+                                                                 and umr.meeting_room_id in (:meetingRoomIds))
+            where u.id in (select umr.user_id
+                           from user_meeting_room umr
+                           where umr.meeting_room_id in (:meetingRoomIds))""",
+            nativeQuery = true)
+    void decreaseMeetingRoomCountIn(@Param("meetingRoomIds") Collection<Long> meetingRoomIds);
+
+    /**
+     * createdCutoff 이전에 생성됐고 참여중인 미팅룸이 없는 게스트의 id를 lastId 이후부터 id 순으로 조회합니다.
+     * (보관 정책 정리 작업의 keyset 청크)
+     */
+    @Query("""
+            select u.id
+            from User u
+            where u.id > :lastId
+              and u.role = :role
+              and u.createdAt < :createdCutoff
+              and not exists (select 1 from UserMeetingRoom umr where umr.user.id = u.id)
+            order by u.id""")
+    List<Long> findIdleIds(Long lastId, UserType role, LocalDateTime createdCutoff, Pageable pageable);
+
+    // 조회 이후 미팅룸에 참여했다면 삭제하지 않음
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            delete User u
+            where u.id in :userIds
+              and not exists (select 1 from UserMeetingRoom umr where umr.user.id = u.id)""")
+    int deleteIdleByIdIn(Collection<Long> userIds);
 }
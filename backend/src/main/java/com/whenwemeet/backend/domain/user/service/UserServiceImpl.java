@@ -1,11 +1,16 @@
 package com.whenwemeet.backend.domain.user.service;
 
+import com.whenwemeet.backend.domain.meetingRoom.repository.UserMeetingRoomRepository;
 import com.whenwemeet.backend.domain.user.dto.response.UserInfoResponse;
 import com.whenwemeet.backend.domain.user.entity.User;
 import com.whenwemeet.backend.domain.user.entity.UserType;
 import com.whenwemeet.backend.domain.user.repository.UserRepository;
+import com.whenwemeet.backend.domain.user.service.cache.UserSnapshotCache;
 import static com.whenwemeet.backend.global.exception.ErrorCode.*;
 import com.whenwemeet.backend.global.exception.type.NotFoundException;
+import com.whenwemeet.backend.global.redis.RoomChangeCounter;
+import com.whenwemeet.backend.global.redis.RoomChangeType;
+import com.whenwemeet.backend.global.security.dto.CustomOAuth2User;
 import com.whenwemeet.backend.global.util.JwtUtil;
 import com.whenwemeet.backend.global.util.RandomProfile;
 import jakarta.servlet.http.HttpServletResponse;
@@ -21,9 +26,13 @@ public class UserServiceImpl implements UserService{
 
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
+    private final UserMeetingRoomRepository userMeetingRoomRepository;
+    private final RoomChangeCounter roomChangeCounter;
+    private final UserSnapshotCache userSnapshotCache;
 
 
     @Override
+    @Transactional(readOnly = true)
     public UserInfoResponse getUserInfo(Long userId) {
         return userRepository.findInfoByUserId(userId)
                 .orElseThrow(() -> new NotFoundException(U001));
@@ -36,6 +45,11 @@ public class UserServiceImpl implements UserService{
                 .orElseThrow(() -> new NotFoundException(U001));
 
         user.changeNickName(nickname);
+        userSnapshotCache.evictAfterCommit(userId);
+
+        // 닉네임은 참여중인 미팅룸의 캘린더 응답에 포함되므로 변경 카운터 증가
+        userMeetingRoomRepository.findMeetingRoomIdsByUser(user)
+                .forEach(id -> roomChangeCounter.increaseAfterCommit(id, RoomChangeType.MEMBER));
     }
 
     @Override
@@ -55,7 +69,7 @@ public class UserServiceImpl implements UserService{
         userRepository.save(user);
 
         // 3) 토큰발급
-        jwtUtil.generateAccessToken(user.getId(), response);
+        jwtUtil.generateAccessToken(CustomOAuth2User.from(user), response);
         jwtUtil.generateRefreshToken(user.getId(), response);
     }
 }
@@ -0,0 +1,17 @@
+package com.whenwemeet.backend.domain.user.service.cache;
+
+import com.whenwemeet.backend.domain.user.entity.User;
+import com.whenwemeet.backend.domain.user.entity.UserType;
+
+/**
+ * 인증 주체(principal)를 만들 때 필요한 사용자 정보만 담은 불변 스냅샷
+ */
+public record UserSnapshot(
+        Long id,
+        String nickname,
+        UserType role
+) {
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(user.getId(), user.getNickname(), user.getRole());
+    }
+}
@@ -0,0 +1,72 @@
+package com.whenwemeet.backend.domain.user.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.whenwemeet.backend.domain.user.repository.UserRepository;
+import com.whenwemeet.backend.global.util.TransactionUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자 id -> 사용자 스냅샷 인메모리 캐시
+ * 1) AccessToken 클레임만으로 인증 주체를 만들 수 없을 때(RefreshToken으로 재발급, 클레임이 없는 이전 토큰)만 사용합니다.
+ * 2) 닉네임 변경/게스트 승격 시 커밋 이후 폐기하며, 다른 서버 인스턴스에서 발생한 변경은 TTL 이내에 반영됩니다.
+ * 3) 조회/폐기 통계는 Micrometer(cache.* 메트릭, cache=user.snapshot)로 노출합니다.
+ */
+@Component
+public class UserSnapshotCache {
+
+    private static final String CACHE_NAME = "user.snapshot";
+
+    private final UserRepository userRepository;
+    private final Cache<Long, UserSnapshot> cache;
+
+    // 조회 도중 폐기가 커밋됐다면, 읽어온 스냅샷은 이번 조회에만 사용하고 보관하지 않습니다.
+    private final AtomicLong writeGeneration = new AtomicLong();
+
+    public UserSnapshotCache(UserRepository userRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${user.snapshot-cache.max-size}") long maxSize,
+                             @Value("${user.snapshot-cache.ttl-seconds}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 사용자 스냅샷을 조회합니다. 캐시에 없다면 DB에서 읽어 보관합니다. (존재하지 않는 사용자는 보관하지 않음)
+     */
+    public Optional<UserSnapshot> findById(Long userId) {
+        UserSnapshot cached = cache.getIfPresent(userId);
+        if (cached != null) return Optional.of(cached);
+
+        long generation = writeGeneration.get();
+        Optional<UserSnapshot> loaded = userRepository.findUserById(userId)
+                .map(UserSnapshot::from);
+
+        if (loaded.isPresent() && writeGeneration.get() == generation) {
+            cache.put(userId, loaded.get());
+        }
+        return loaded;
+    }
+
+    /**
+     * 커밋 이후 사용자의 스냅샷을 폐기합니다. (닉네임 변경, 게스트 승격/병합)
+     */
+    public void evictAfterCommit(Long userId) {
+        TransactionUtil.runAfterCommit(() -> {
+            writeGeneration.incrementAndGet();
+            cache.invalidate(userId);
+        });
+    }
+}
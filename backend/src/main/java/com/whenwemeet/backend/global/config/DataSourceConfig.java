@@ -0,0 +1,75 @@
+package com.whenwemeet.backend.global.config;
+
+import com.whenwemeet.backend.global.datasource.ReadWriteRoutingDataSource;
+import com.whenwemeet.backend.global.redis.RecentWriteStore;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 1) primary 커넥션 풀은 spring.datasource.*, spring.datasource.hikari.* 설정으로 생성합니다.
+ * 2) spring.datasource.replica.enabled=true 라면 replica 커넥션 풀을 추가로 만들고,
+ *    읽기 전용 트랜잭션(@Transactional(readOnly = true))은 replica로, 나머지는 primary로 보냅니다.
+ * 3) 실제 커넥션은 첫 쿼리 시점에 얻도록 LazyConnectionDataSourceProxy로 감싸므로,
+ *    트랜잭션만 시작하고 쿼리가 없는(캐시 적중) 요청은 커넥션을 점유하지 않습니다.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(@Value("${spring.datasource.url}") String url,
+                                              @Value("${spring.datasource.username}") String username,
+                                              @Value("${spring.datasource.password}") String password,
+                                              @Value("${spring.datasource.driver-class-name}") String driverClassName) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("primary");
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setDriverClassName(driverClassName);
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.datasource.replica.enabled", havingValue = "true")
+    @ConfigurationProperties("spring.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(@Value("${spring.datasource.replica.url}") String url,
+                                              @Value("${spring.datasource.replica.username}") String username,
+                                              @Value("${spring.datasource.replica.password}") String password,
+                                              @Value("${spring.datasource.driver-class-name}") String driverClassName) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setDriverClassName(driverClassName);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource,
+                                 RecentWriteStore recentWriteStore) {
+        DataSource replica = replicaDataSource.getIfAvailable();
+        if (replica == null) {
+            return new LazyConnectionDataSourceProxy(primaryDataSource);
+        }
+
+        ReadWriteRoutingDataSource routingDataSource =
+                new ReadWriteRoutingDataSource(primaryDataSource, replica, recentWriteStore);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
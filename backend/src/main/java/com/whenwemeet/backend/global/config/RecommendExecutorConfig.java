@@ -0,0 +1,40 @@
+package com.whenwemeet.backend.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 미팅룸의 추천 시간대를 병렬로 계산하기 위한 스레드 풀
+ * 스레드 수와 대기열 크기를 제한하고, 대기열이 가득 차면 요청 스레드에서 직접 계산(CallerRunsPolicy)합니다.
+ */
+@Configuration
+public class RecommendExecutorConfig {
+
+    @Value("${schedule.recommend.batch-threads}")
+    private int threads;
+
+    @Value("${schedule.recommend.batch-queue-size}")
+    private int queueSize;
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService recommendExecutor() {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "recommend-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+}
@@ -0,0 +1,5 @@
+package com.whenwemeet.backend.global.datasource;
+
+public enum DataSourceType {
+    PRIMARY, REPLICA
+}
@@ -0,0 +1,35 @@
+package com.whenwemeet.backend.global.datasource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * 복제 지연이 허용되지 않는 조회를 primary에서 실행합니다.
+ * (메모리/Redis 캐시에 보관되는 값의 로드, 변경 카운터와 함께 응답하는 데이터 등)
+ * 바깥 트랜잭션이 이미 replica 커넥션을 사용중일 수 있으므로, 별도의 읽기 전용 트랜잭션(REQUIRES_NEW)에서 실행합니다.
+ * replica를 사용하지 않는다면 현재 트랜잭션에서 그대로 실행합니다.
+ */
+@Component
+public class PrimaryReader {
+
+    private final TransactionTemplate transactionTemplate;
+    private final boolean replicaEnabled;
+
+    public PrimaryReader(PlatformTransactionManager transactionManager,
+                         @Value("${spring.datasource.replica.enabled}") boolean replicaEnabled) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+        this.replicaEnabled = replicaEnabled;
+    }
+
+    public <T> T read(Supplier<T> query) {
+        if (!replicaEnabled) return query.get();
+        return ReadWriteRoutingDataSource.onPrimary(() -> transactionTemplate.execute(status -> query.get()));
+    }
+}
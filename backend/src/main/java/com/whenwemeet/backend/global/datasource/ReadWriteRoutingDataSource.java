@@ -0,0 +1,70 @@
+package com.whenwemeet.backend.global.datasource;
+
+import com.whenwemeet.backend.global.redis.RecentWriteStore;
+import com.whenwemeet.backend.global.security.dto.CustomOAuth2User;
+import com.whenwemeet.backend.global.util.TransactionUtil;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 트랜잭션 속성에 따라 primary/replica 커넥션을 선택합니다.
+ * LazyConnectionDataSourceProxy로 감싸서 사용하므로, 트랜잭션 속성(readOnly)이 정해진 뒤 첫 쿼리 시점에 선택됩니다.
+ * 1) 트랜잭션 밖, 쓰기 트랜잭션 -> primary (쓰기 트랜잭션이 커밋되면 사용자를 최근 쓰기로 표시)
+ * 2) 읽기 전용 트랜잭션 -> replica
+ *    단, PrimaryReader로 실행 중이거나 최근에 쓰기를 커밋한 사용자라면 primary
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private final RecentWriteStore recentWriteStore;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, RecentWriteStore recentWriteStore) {
+        this.recentWriteStore = recentWriteStore;
+        setTargetDataSources(Map.of(DataSourceType.PRIMARY, primary, DataSourceType.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    /**
+     * 읽기 전용 트랜잭션이라도 action 안에서 새로 얻는 커넥션은 primary를 사용합니다.
+     */
+    static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY_FORCED.get();
+        PRIMARY_FORCED.set(true);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) PRIMARY_FORCED.remove();
+            else PRIMARY_FORCED.set(previous);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) return DataSourceType.PRIMARY;
+
+        Long userId = currentUserId();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (userId != null) TransactionUtil.runAfterCommit(() -> recentWriteStore.markUser(userId));
+            return DataSourceType.PRIMARY;
+        }
+
+        if (Boolean.TRUE.equals(PRIMARY_FORCED.get())) return DataSourceType.PRIMARY;
+        if (userId != null && recentWriteStore.isRecentUser(userId)) return DataSourceType.PRIMARY;
+        return DataSourceType.REPLICA;
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomOAuth2User user) {
+            return user.getId();
+        }
+        return null;
+    }
+}
@@ -4,5 +4,6 @@ public record Pagination (
         Long currentPage,
         Long totalPages,
         Long totalItems,
-        Boolean hasMore
+        Boolean hasMore,
+        String nextCursor
 ) {}
@@ -23,6 +23,12 @@ public enum ErrorCode {
     M003("더이상 존재하지 않는 모임입니다."),
     M004("이미 참여중인 모임입니다."),
     M005("이미 만료된 초대링크입니다. 새로 발급된 초대링크를 확인해주세요"),
+    M006("유효하지 않은 모임 목록 커서입니다. 처음부터 다시 조회해주세요."),
+
+    // Schedule 관련 예외 코드
+    S001("유효하지 않은 추천 커서입니다. 처음부터 다시 조회해주세요."),
+    S002("최소 참석 인원은 1명 이상이어야 합니다."),
+    S003("한 번에 추천받을 수 있는 모임 수를 초과했습니다."),
 
     // Cookie 관련 예외코드
     C001("쿠키가 존재하지 않습니다.")
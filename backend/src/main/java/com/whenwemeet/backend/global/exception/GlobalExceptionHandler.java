@@ -1,5 +1,6 @@
 package com.whenwemeet.backend.global.exception;
 
+import com.whenwemeet.backend.global.exception.type.BadRequestException;
 import com.whenwemeet.backend.global.exception.type.DuplicateException;
 import com.whenwemeet.backend.global.exception.type.NotFoundException;
 import com.whenwemeet.backend.global.exception.type.UnAuthorizedException;
@@ -47,4 +48,15 @@ public class GlobalExceptionHandler {
                 ));
     }
 
+    @ExceptionHandler(BadRequestException.class)
+    public final ResponseEntity<CommonResponse> handleBadRequestException(final BadRequestException e) {
+        ErrorCode errorCode = e.getErrorCode();
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(CommonResponse.of(
+                        errorCode.getMessage(),
+                        errorCode.name()
+                ));
+    }
+
 }
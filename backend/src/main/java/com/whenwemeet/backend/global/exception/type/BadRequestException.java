@@ -0,0 +1,14 @@
+package com.whenwemeet.backend.global.exception.type;
+
+import com.whenwemeet.backend.global.exception.ErrorCode;
+import lombok.Getter;
+
+@Getter
+public class BadRequestException extends RuntimeException{
+    private ErrorCode errorCode;
+
+    public BadRequestException(ErrorCode errorCode) {
+        super(errorCode.getMessage());
+        this.errorCode = errorCode;
+    }
+}
@@ -0,0 +1,70 @@
+package com.whenwemeet.backend.global.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 최근에 DB 쓰기가 커밋된 사용자/미팅룸을 Redis에 짧게(sticky-window-ms) 표시합니다. (spring.datasource.replica.enabled=true 일 때만 사용)
+ * 1) 표시된 사용자의 읽기 트랜잭션은 replica 대신 primary로 보내, 복제 지연 중에도 본인이 쓴 값을 바로 읽을 수 있습니다. (read-your-writes)
+ * 2) 표시된 미팅룸은 변경 카운터(버전)보다 오래된 데이터를 응답하지 않도록 primary에서 조회합니다.
+ * 3) 표시가 모든 서버 인스턴스에 공유되므로, 다음 요청이 다른 인스턴스로 가도 같은 보장을 받습니다.
+ * Redis 장애 시에는 항상 primary를 사용합니다.
+ */
+@Slf4j
+@Component
+public class RecentWriteStore {
+
+    private static final String USER_KEY_PREFIX = "db:recent-write:user:";
+    private static final String ROOM_KEY_PREFIX = "db:recent-write:room:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final Duration window;
+
+    public RecentWriteStore(StringRedisTemplate redisTemplate,
+                            @Value("${spring.datasource.replica.enabled}") boolean enabled,
+                            @Value("${spring.datasource.replica.sticky-window-ms}") long windowMillis) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.window = Duration.ofMillis(windowMillis);
+    }
+
+    public void markUser(Long userId) {
+        mark(USER_KEY_PREFIX + userId);
+    }
+
+    public void markRoom(Long meetingRoomId) {
+        mark(ROOM_KEY_PREFIX + meetingRoomId);
+    }
+
+    public boolean isRecentUser(Long userId) {
+        return isRecent(USER_KEY_PREFIX + userId);
+    }
+
+    public boolean isRecentRoom(Long meetingRoomId) {
+        return isRecent(ROOM_KEY_PREFIX + meetingRoomId);
+    }
+
+    private void mark(String key) {
+        if (!enabled) return;
+        try {
+            redisTemplate.opsForValue().set(key, "1", window);
+        } catch (Exception e) {
+            log.warn("최근 쓰기 표시 실패 (key={}): {}", key, e.getMessage());
+        }
+    }
+
+    private boolean isRecent(String key) {
+        if (!enabled) return true;
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+        } catch (Exception e) {
+            log.warn("최근 쓰기 조회 실패, primary를 사용합니다. (key={}): {}", key, e.getMessage());
+            return true;
+        }
+    }
+}
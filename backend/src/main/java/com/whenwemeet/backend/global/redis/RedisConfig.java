@@ -1,11 +1,19 @@
 package com.whenwemeet.backend.global.redis;
 
+import io.lettuce.core.api.StatefulConnection;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
 
 @Configuration
 public class RedisConfig {
@@ -20,11 +28,49 @@ public class RedisConfig {
     private String password;
 
 
+    @Value("${spring.data.redis.lettuce.pool.max-active}")
+    private int maxActive;
+
+    @Value("${spring.data.redis.lettuce.pool.max-idle}")
+    private int maxIdle;
+
+    @Value("${spring.data.redis.lettuce.pool.min-idle}")
+    private int minIdle;
+
+    @Value("${spring.data.redis.lettuce.pool.max-wait}")
+    private Duration maxWait;
+
+
+    /**
+     * 커넥션 팩토리를 직접 등록하면 spring.data.redis.lettuce.pool 설정이 자동으로 적용되지 않으므로 풀 설정을 직접 반영합니다.
+     * (트랜잭션/블로킹 명령처럼 공유 커넥션을 쓸 수 없는 작업이 풀에서 커넥션을 빌려 사용)
+     */
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
         RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(host, port);
         config.setPassword(password);
 
-        return new LettuceConnectionFactory(config);
+        GenericObjectPoolConfig<StatefulConnection<?, ?>> poolConfig = new GenericObjectPoolConfig<>();
+        poolConfig.setMaxTotal(maxActive);
+        poolConfig.setMaxIdle(maxIdle);
+        poolConfig.setMinIdle(minIdle);
+        poolConfig.setMaxWait(maxWait);
+
+        LettuceClientConfiguration clientConfig = LettucePoolingClientConfiguration.builder()
+                .poolConfig(poolConfig)
+                .build();
+
+        return new LettuceConnectionFactory(config, clientConfig);
+    }
+
+    /**
+     * Redis pub/sub 수신 컨테이너 (메시지 처리는 가상 스레드에서 진행)
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.setTaskExecutor(new VirtualThreadTaskExecutor("redis-listener-"));
+        return container;
     }
 }
@@ -1,23 +0,0 @@
-package com.whenwemeet.backend.global.redis;
-
-import jakarta.persistence.Id;
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import org.springframework.data.redis.core.RedisHash;
-import org.springframework.data.redis.core.TimeToLive;
-
-@Getter
-@RedisHash(value = "refreshToken")
-@NoArgsConstructor(access = AccessLevel.PROTECTED)
-@AllArgsConstructor
-public class RefreshToken {
-
-    @Id
-    private Long id;
-    private String refreshToken;
-
-    @TimeToLive
-    private Long timeToLive;
-}
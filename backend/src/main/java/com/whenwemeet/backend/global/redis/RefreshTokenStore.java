@@ -0,0 +1,77 @@
+package com.whenwemeet.backend.global.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자별 현재 RefreshToken을 Redis에 보관합니다.
+ * 1) 사용자당 키 하나(refresh:token:{userId})에 토큰 문자열을 저장하고, 만료는 Redis TTL에 맡깁니다. (별도 인덱스 Set 없음)
+ * 2) 재발급(rotation)은 Lua 스크립트로 "저장된 토큰과 일치할 때만 교체"를 한 번의 왕복으로 처리하므로,
+ *    같은 RefreshToken으로 동시에 들어온 요청 중 하나만 성공합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "refresh:token:";
+
+    // KEYS[1] = 사용자 키, ARGV[1] = 기대하는 현재 토큰, ARGV[2] = 새 토큰, ARGV[3] = TTL(ms)
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 사용자의 RefreshToken을 저장합니다. (로그인, 최초 발급 시 기존 토큰을 덮어씀)
+     */
+    public void save(Long userId, String token, long ttlMillis) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + userId, token, Duration.ofMillis(ttlMillis));
+    }
+
+    /**
+     * 저장된 토큰이 currentToken과 같을 때만 nextToken으로 교체합니다.
+     * @return 교체 성공 여부 (이미 교체됐거나 로그아웃/만료된 토큰이면 false)
+     */
+    public boolean rotate(Long userId, String currentToken, String nextToken, long ttlMillis) {
+        Long result = redisTemplate.execute(
+                ROTATE_SCRIPT,
+                List.of(KEY_PREFIX + userId),
+                currentToken, nextToken, String.valueOf(ttlMillis));
+        return result != null && result == 1L;
+    }
+
+    /**
+     * RefreshToken이 아직 만료되지 않은 사용자 id를 한 번의 MGET으로 조회합니다.
+     */
+    public Set<Long> findActiveUserIds(List<Long> userIds) {
+        if (userIds.isEmpty()) return Set.of();
+        List<String> tokens = redisTemplate.opsForValue()
+                .multiGet(userIds.stream().map(id -> KEY_PREFIX + id).toList());
+
+        Set<Long> active = new HashSet<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            if (tokens != null && tokens.get(i) != null) active.add(userIds.get(i));
+        }
+        return active;
+    }
+
+    /**
+     * 사용자의 RefreshToken을 삭제합니다. (로그아웃)
+     */
+    public void delete(Long userId) {
+        redisTemplate.delete(KEY_PREFIX + userId);
+    }
+}
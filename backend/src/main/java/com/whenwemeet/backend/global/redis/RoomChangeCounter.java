@@ -0,0 +1,88 @@
+package com.whenwemeet.backend.global.redis;
+
+import com.whenwemeet.backend.global.util.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 미팅룸별 변경 카운터를 Redis에 보관합니다.
+ * 설정 변경, 입장/퇴장, 일정 제출 등 미팅룸의 내용이 바뀔 때마다 커밋 이후 원자적으로(INCR) 1씩 증가합니다.
+ *  - 캐시 키에 포함시켜 변경 전 캐시가 다시 조회되지 않도록 합니다.
+ *  - 미팅룸 버전 조회(/api/meetings/{shareCode}/version)의 응답으로 사용합니다.
+ *  - 증가된 버전과 변경 종류를 CHANNEL로 발행하여, 모든 서버 인스턴스가 SSE 구독자에게 전달하고 인메모리 집계를 폐기할 수 있도록 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomChangeCounter {
+
+    public static final String CHANNEL = "room:change:events";
+    private static final String KEY_PREFIX = "room:change:";
+
+    // 이 서버 인스턴스의 id (발행한 이벤트의 origin)
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate redisTemplate;
+    private final JsonMapper jsonMapper;
+    private final RecentWriteStore recentWriteStore;
+
+    /**
+     * 이 서버 인스턴스의 id를 반환합니다.
+     */
+    public String instanceId() {
+        return instanceId;
+    }
+
+    /**
+     * 미팅룸의 현재 변경 카운터를 반환합니다. (한 번도 변경되지 않았다면 0)
+     */
+    public long current(Long meetingRoomId) {
+        String value = redisTemplate.opsForValue().get(KEY_PREFIX + meetingRoomId);
+        return value == null ? 0L : Long.parseLong(value);
+    }
+
+    /**
+     * 여러 미팅룸의 현재 변경 카운터를 한 번에(MGET) 반환합니다.
+     * @return 미팅룸 id -> 변경 카운터 (한 번도 변경되지 않았다면 0)
+     */
+    public Map<Long, Long> current(List<Long> meetingRoomIds) {
+        List<String> values = redisTemplate.opsForValue().multiGet(
+                meetingRoomIds.stream().map(id -> KEY_PREFIX + id).toList());
+
+        Map<Long, Long> versions = new HashMap<>();
+        for (int i = 0; i < meetingRoomIds.size(); i++) {
+            String value = values == null ? null : values.get(i);
+            versions.put(meetingRoomIds.get(i), value == null ? 0L : Long.parseLong(value));
+        }
+        return versions;
+    }
+
+    /**
+     * 커밋 이후 미팅룸의 변경 카운터를 증가시키고 변경 이벤트를 발행합니다.
+     * @param meetingRoomId 변경된 미팅룸 id
+     * @param type 변경 종류
+     */
+    public void increaseAfterCommit(Long meetingRoomId, RoomChangeType type) {
+        TransactionUtil.runAfterCommit(() -> {
+            try {
+                // 새 버전이 보이기 전에 최근 변경으로 표시해, 새 버전과 함께 복제 지연된 데이터가 응답되지 않도록 함
+                recentWriteStore.markRoom(meetingRoomId);
+                Long version = redisTemplate.opsForValue().increment(KEY_PREFIX + meetingRoomId);
+                if (version == null) return;
+
+                RoomChangeEvent event = new RoomChangeEvent(meetingRoomId, version, type, instanceId);
+                redisTemplate.convertAndSend(CHANNEL, jsonMapper.writeValueAsString(event));
+            } catch (Exception e) {
+                log.error("미팅룸 변경 카운터 증가 실패 (meetingRoomId={}): {}", meetingRoomId, e.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,13 @@
+package com.whenwemeet.backend.global.redis;
+
+/**
+ * 미팅룸 변경 이벤트 (Redis pub/sub 및 SSE로 전달)
+ * origin은 변경을 커밋한 서버 인스턴스의 id이며, 수신한 인스턴스가 자신이 발행한 이벤트인지 구분할 때 사용합니다.
+ */
+public record RoomChangeEvent(
+        Long meetingRoomId,
+        long version,
+        RoomChangeType type,
+        String origin
+) {
+}
@@ -0,0 +1,10 @@
+package com.whenwemeet.backend.global.redis;
+
+/**
+ * 미팅룸 변경 종류
+ */
+public enum RoomChangeType {
+    SCHEDULE,   // 일정 제출/수정
+    MEMBER,     // 입장/퇴장, 멤버 정보 변경
+    SETTINGS    // 미팅룸 설정 변경/삭제
+}
@@ -0,0 +1,226 @@
+package com.whenwemeet.backend.global.retention;
+
+import com.whenwemeet.backend.domain.meetingRoom.repository.MeetingRoomRepository;
+import com.whenwemeet.backend.domain.meetingRoom.repository.UserMeetingRoomRepository;
+import com.whenwemeet.backend.domain.meetingRoom.service.cache.MeetingRoomSnapshotCache;
+import com.whenwemeet.backend.domain.schedule.repository.ScheduleRepository;
+import com.whenwemeet.backend.domain.schedule.repository.UnavailableRepository;
+import com.whenwemeet.backend.domain.schedule.service.availability.RoomAvailabilityStore;
+import com.whenwemeet.backend.domain.schedule.service.write.ScheduleWriteBehindQueue;
+import com.whenwemeet.backend.domain.user.entity.UserType;
+import com.whenwemeet.backend.domain.user.repository.UserRepository;
+import com.whenwemeet.backend.domain.user.service.cache.UserSnapshotCache;
+import com.whenwemeet.backend.global.redis.RefreshTokenStore;
+import com.whenwemeet.backend.global.util.TransactionUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * 보관 기간이 지난 데이터를 주기적으로 삭제합니다. (retention.enabled=true 인 인스턴스 하나에서만 실행 권장)
+ * 1) 미팅룸: 모임 날짜(없다면 선택 가능한 마지막 날짜)가 room-grace-days 이상 지났거나, 삭제된 지 room-grace-days 이상 지난 미팅룸과
+ *    참여자/불가능한 시간대/반복 규칙을 함께 삭제합니다.
+ * 2) 불가능한 시간대: 날짜가 unavailable-grace-days 이상 지난 행을 삭제합니다.
+ *    (지난 날짜는 추천/조회 대상이 아니므로 메모리 집계는 폐기하지 않음)
+ * 3) 게스트: guest-idle-days 이전에 생성됐고, 참여중인 미팅룸이 없으며, RefreshToken도 만료된 게스트를 삭제합니다.
+ * 모든 삭제는 id keyset으로 chunk-size개씩 조회해 청크마다 짧은 트랜잭션으로 처리하므로 긴 잠금을 잡지 않으며,
+ * 청크 사이에 chunk-pause-ms만큼 쉬고, 한 번의 실행에서 대상별로 최대 max-chunks-per-run개의 청크만 처리합니다.
+ * 삭제된 행 수(retention.purged)와 대상별 소요 시간(retention.run)은 Micrometer로 노출합니다.
+ */
+@Slf4j
+@Component
+public class RetentionPurgeJob {
+
+    private static final String MEETING_ROOM = "meeting_room";
+    private static final String UNAVAILABLE_TIME = "unavailable_time";
+    private static final String GUEST_USER = "guest_user";
+
+    private final MeetingRoomRepository meetingRoomRepository;
+    private final UserMeetingRoomRepository userMeetingRoomRepository;
+    private final UnavailableRepository unavailableRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final UserRepository userRepository;
+    private final RoomAvailabilityStore roomAvailabilityStore;
+    private final MeetingRoomSnapshotCache meetingRoomSnapshotCache;
+    private final ScheduleWriteBehindQueue scheduleWriteBehindQueue;
+    private final UserSnapshotCache userSnapshotCache;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final long chunkPauseMillis;
+    private final int roomGraceDays;
+    private final int unavailableGraceDays;
+    private final int guestIdleDays;
+    private final int maxRecommendDays;
+
+    public RetentionPurgeJob(MeetingRoomRepository meetingRoomRepository,
+                             UserMeetingRoomRepository userMeetingRoomRepository,
+                             UnavailableRepository unavailableRepository,
+                             ScheduleRepository scheduleRepository,
+                             UserRepository userRepository,
+                             RoomAvailabilityStore roomAvailabilityStore,
+                             MeetingRoomSnapshotCache meetingRoomSnapshotCache,
+                             ScheduleWriteBehindQueue scheduleWriteBehindQueue,
+                             UserSnapshotCache userSnapshotCache,
+                             RefreshTokenStore refreshTokenStore,
+                             TransactionTemplate transactionTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${retention.enabled}") boolean enabled,
+                             @Value("${retention.chunk-size}") int chunkSize,
+                             @Value("${retention.max-chunks-per-run}") int maxChunksPerRun,
+                             @Value("${retention.chunk-pause-ms}") long chunkPauseMillis,
+                             @Value("${retention.room-grace-days}") int roomGraceDays,
+                             @Value("${retention.unavailable-grace-days}") int unavailableGraceDays,
+                             @Value("${retention.guest-idle-days}") int guestIdleDays,
+                             @Value("${schedule.recommend.max-days}") int maxRecommendDays) {
+        this.meetingRoomRepository = meetingRoomRepository;
+        this.userMeetingRoomRepository = userMeetingRoomRepository;
+        this.unavailableRepository = unavailableRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.userRepository = userRepository;
+        this.roomAvailabilityStore = roomAvailabilityStore;
+        this.meetingRoomSnapshotCache = meetingRoomSnapshotCache;
+        this.scheduleWriteBehindQueue = scheduleWriteBehindQueue;
+        this.userSnapshotCache = userSnapshotCache;
+        this.refreshTokenStore = refreshTokenStore;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.chunkPauseMillis = chunkPauseMillis;
+        this.roomGraceDays = roomGraceDays;
+        this.unavailableGraceDays = unavailableGraceDays;
+        this.guestIdleDays = guestIdleDays;
+        this.maxRecommendDays = maxRecommendDays;
+    }
+
+    @Scheduled(cron = "${retention.cron}")
+    public void run() {
+        if (!enabled) return;
+
+        LocalDate today = LocalDate.now();
+        Pageable chunk = PageRequest.of(0, chunkSize);
+
+        // 1) 미팅룸을 먼저 정리해야 참여자가 사라진 게스트까지 같은 실행에서 정리됨
+        LocalDateTime roomCutoff = today.minusDays(roomGraceDays).atStartOfDay();
+        LocalDate startDateCutoff = today.minusDays((long) roomGraceDays + maxRecommendDays);
+        purge(MEETING_ROOM,
+                lastId -> meetingRoomRepository.findExpiredIds(lastId, roomCutoff, startDateCutoff, roomCutoff, chunk),
+                this::deleteMeetingRooms);
+
+        // 2) 지난 날짜의 불가능한 시간대
+        LocalDate unavailableCutoff = today.minusDays(unavailableGraceDays);
+        purge(UNAVAILABLE_TIME,
+                lastId -> unavailableRepository.findIdsDatedBefore(lastId, unavailableCutoff, chunk),
+                unavailableRepository::deleteAllByIdIn);
+
+        // 3) 방치된 게스트 (RefreshToken이 남아있다면 아직 사용중인 게스트이므로 제외)
+        LocalDateTime guestCutoff = today.minusDays(guestIdleDays).atStartOfDay();
+        purge(GUEST_USER,
+                lastId -> userRepository.findIdleIds(lastId, UserType.GUEST, guestCutoff, chunk),
+                this::deleteGuests);
+    }
+
+    /**
+     * 마지막으로 조회한 id 이후의 청크를 반복해서 조회하고, 청크마다 별도의 트랜잭션으로 삭제합니다.
+     * 청크 삭제에 실패하면 해당 청크는 다음 실행에서 다시 시도하고 이후 청크를 계속 처리합니다.
+     */
+    private void purge(String target, Function<Long, List<Long>> nextChunk, ToIntFunction<List<Long>> deleteChunk) {
+        Counter purged = Counter.builder("retention.purged")
+                .description("보관 기간이 지나 삭제된 행 수")
+                .tag("target", target)
+                .register(meterRegistry);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long lastId = 0L;
+        long total = 0L;
+        int chunks = 0;
+
+        while (chunks < maxChunksPerRun) {
+            List<Long> ids = nextChunk.apply(lastId);
+            if (ids.isEmpty()) break;
+
+            try {
+                Integer deleted = transactionTemplate.execute(status -> deleteChunk.applyAsInt(ids));
+                if (deleted != null) {
+                    purged.increment(deleted);
+                    total += deleted;
+                }
+            } catch (Exception e) {
+                log.warn("보관 정책 정리 실패, 다음 실행에서 재시도합니다. (target={}, ids={}~{}): {}",
+                        target, ids.getFirst(), ids.getLast(), e.getMessage());
+            }
+
+            lastId = ids.getLast();
+            chunks++;
+            if (ids.size() < chunkSize || !pause()) break;
+        }
+
+        sample.stop(Timer.builder("retention.run")
+                .description("대상별 보관 정책 정리 소요 시간")
+                .tag("target", target)
+                .register(meterRegistry));
+        log.info("보관 정책 정리 완료 (target={}, deleted={}, chunks={})", target, total, chunks);
+    }
+
+    private int deleteMeetingRooms(List<Long> meetingRoomIds) {
+        List<String> shareCodes = meetingRoomRepository.findShareCodesByIdIn(meetingRoomIds);
+
+        userRepository.decreaseMeetingRoomCountIn(meetingRoomIds);
+        userMeetingRoomRepository.deleteAllUserInMeetingRooms(meetingRoomIds);
+        unavailableRepository.deleteAllTimeInMeetingRooms(meetingRoomIds);
+        scheduleRepository.deleteAllScheduleInMeetingRooms(meetingRoomIds);
+        int deleted = meetingRoomRepository.deleteAllByIdIn(meetingRoomIds);
+
+        meetingRoomIds.forEach(roomAvailabilityStore::evictAfterCommit);
+        shareCodes.forEach(meetingRoomSnapshotCache::evictAfterCommit);
+        TransactionUtil.runAfterCommit(() -> meetingRoomIds.forEach(scheduleWriteBehindQueue::discardRoom));
+        return deleted;
+    }
+
+    private int deleteGuests(List<Long> userIds) {
+        Set<Long> active = refreshTokenStore.findActiveUserIds(userIds);
+        List<Long> idle = userIds.stream()
+                .filter(id -> !active.contains(id))
+                .toList();
+        if (idle.isEmpty()) return 0;
+
+        int deleted = userRepository.deleteIdleByIdIn(idle);
+        idle.forEach(userSnapshotCache::evictAfterCommit);
+        return deleted;
+    }
+
+    /**
+     * 청크 사이에 잠시 쉬어 다른 트랜잭션과 복제 지연에 여유를 줍니다.
+     * @return 종료 요청으로 중단됐다면 false
+     */
+    private boolean pause() {
+        if (chunkPauseMillis <= 0) return true;
+        try {
+            Thread.sleep(chunkPauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
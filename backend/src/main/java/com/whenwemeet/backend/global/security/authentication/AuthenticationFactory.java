@@ -1,9 +1,7 @@
 package com.whenwemeet.backend.global.security.authentication;
 
-import com.whenwemeet.backend.domain.user.entity.User;
-import com.whenwemeet.backend.domain.user.repository.UserRepository;
+import com.whenwemeet.backend.domain.user.service.cache.UserSnapshotCache;
 import com.whenwemeet.backend.global.exception.type.NotFoundException;
-import com.whenwemeet.backend.global.util.JwtUtil;
 import com.whenwemeet.backend.global.security.dto.CustomOAuth2User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -15,21 +13,18 @@ import static com.whenwemeet.backend.global.exception.ErrorCode.U001;
 @Component
 @RequiredArgsConstructor
 public class AuthenticationFactory {
-    private final JwtUtil jwtUtil;
-    private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
 
-    public Authentication createAuthentication(String token) {
-        // 1. AccessToken 에서 UserId 추출
-        Long userId = jwtUtil.getUserId(token);
+    public Authentication createAuthentication(VerifiedToken token) {
+        // 1. AccessToken이라면 검증된 클레임만으로 principal 생성 (DB 조회 없음)
+        // 2. RefreshToken이나 클레임이 없는 이전 AccessToken이라면 사용자 스냅샷 캐시에서 조회
+        CustomOAuth2User customOAuth2User = token.hasPrincipalClaims()
+                ? new CustomOAuth2User(token.userId(), token.role(), token.nickname())
+                : userSnapshotCache.findById(token.userId())
+                        .map(CustomOAuth2User::from)
+                        .orElseThrow(() -> new NotFoundException(U001));
 
-        // 2. 해당 UserId를 통해 User 객체 반환
-        User user = userRepository.findUserById(userId)
-                .orElseThrow(() -> new NotFoundException(U001));
-
-        // 3. User 객체를 활용해 Authentication 객체를 위한 CustomOAuth2User 객체 (principal)를 만든다.
-        CustomOAuth2User customOAuth2User = new CustomOAuth2User(user);
-
-        // 4. 최종적으로 Authentication 객체를 완성해서 SecurityContextHolder 에 넣는다.
+        // 3. 최종적으로 Authentication 객체를 완성해서 SecurityContextHolder 에 넣는다.
         return new UsernamePasswordAuthenticationToken(
                 customOAuth2User, null, customOAuth2User.getAuthorities());
     }
@@ -0,0 +1,132 @@
+package com.whenwemeet.backend.global.security.authentication;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.whenwemeet.backend.domain.user.entity.UserType;
+import com.whenwemeet.backend.global.util.JwtUtil;
+import io.jsonwebtoken.*;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 검증 컴포넌트
+ * 1) 파서는 생성 시 한 번만 만들어 재사용하며, 요청마다 토큰은 한 번만 파싱해 VerifiedToken으로 넘깁니다.
+ * 2) 최근 검증에 성공한 토큰은 해시(SHA-256)를 키로 짧은 TTL 동안 보관해, 같은 토큰이 몰려 들어와도 서명 검증을 반복하지 않습니다.
+ *    (토큰 원문은 보관하지 않으며, 보관 중이라도 만료 시각이 지나면 사용하지 않습니다.)
+ * 3) 실제 파싱/서명 검증 시간은 Micrometer 타이머(jwt.verify, result=valid|expired|invalid)로 노출합니다.
+ */
+@Slf4j
+@Component
+public class JwtVerifier {
+
+    private static final String CACHE_NAME = "jwt.verified";
+
+    private final JwtParser parser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private final Timer validTimer;
+    private final Timer expiredTimer;
+    private final Timer invalidTimer;
+
+    public JwtVerifier(@Value("${spring.jwt.secret}") String key,
+                       @Value("${spring.jwt.issuer}") String issuer,
+                       @Value("${spring.jwt.verified-cache.max-size}") long maxSize,
+                       @Value("${spring.jwt.verified-cache.ttl-seconds}") long ttlSeconds,
+                       MeterRegistry meterRegistry) {
+        this.parser = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(key.getBytes(StandardCharsets.UTF_8))) // 서명 검증
+                .requireIssuer(issuer)                                                 // 발급자 검증
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, CACHE_NAME);
+
+        this.validTimer = verifyTimer(meterRegistry, "valid");
+        this.expiredTimer = verifyTimer(meterRegistry, "expired");
+        this.invalidTimer = verifyTimer(meterRegistry, "invalid");
+    }
+
+    /**
+     * 토큰을 검증합니다.
+     * @return 유효한 토큰이면 검증된 클레임, 비어있거나 만료/위조된 토큰이면 empty
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        if (token == null || token.isBlank()) return Optional.empty();
+
+        String hash = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(hash);
+        if (cached != null) {
+            if (!cached.isExpired(Instant.now())) return Optional.of(cached);
+            verifiedTokens.invalidate(hash);
+            return Optional.empty();
+        }
+
+        long start = System.nanoTime();
+        Timer timer = invalidTimer;
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            VerifiedToken verified = toVerifiedToken(claims);
+            timer = validTimer;
+            verifiedTokens.put(hash, verified);
+            return Optional.of(verified);
+        } catch (ExpiredJwtException e){
+            timer = expiredTimer;
+            log.error("만료된 JWT 토큰입니다: {}", e.getMessage());
+        } catch (SignatureException e){
+            log.error("JWT 서명이 유효하지 않습니다: {}", e.getMessage());
+        } catch (MalformedJwtException e) {
+            log.error("잘못된 JWT 구조입니다: {}", e.getMessage());
+        } catch (UnsupportedJwtException e) {
+            log.error("지원하지 않는 JWT 토큰입니다: {}", e.getMessage());
+        } catch (IllegalArgumentException e){
+            log.error("JWT 토큰이 비어있습니다: {}", e.getMessage());
+        } catch (Exception e){
+            log.error("JWT 검증 중 오류발생: {}", e.getMessage());
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return Optional.empty();
+    }
+
+    private VerifiedToken toVerifiedToken(Claims claims) {
+        String role = claims.get(JwtUtil.CLAIM_ROLE, String.class);
+        return new VerifiedToken(
+                Long.valueOf(claims.getSubject()),
+                role == null ? null : UserType.valueOf(role),
+                claims.get(JwtUtil.CLAIM_NICKNAME, String.class),
+                claims.getExpiration().toInstant());
+    }
+
+    private static Timer verifyTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("jwt.verify")
+                .tag("result", result)
+                .description("JWT 파싱 및 서명 검증 시간")
+                .register(meterRegistry);
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
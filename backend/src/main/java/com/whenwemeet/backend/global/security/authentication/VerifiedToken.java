@@ -0,0 +1,26 @@
+package com.whenwemeet.backend.global.security.authentication;
+
+import com.whenwemeet.backend.domain.user.entity.UserType;
+
+import java.time.Instant;
+
+/**
+ * 서명/발급자/만료 검증을 마친 JWT의 클레임
+ * 요청 안에서는 토큰을 다시 파싱하지 않고 이 객체를 넘겨 사용합니다.
+ * @param role AccessToken에만 존재 (RefreshToken, 클레임 추가 이전에 발급된 AccessToken이면 null)
+ * @param nickname AccessToken에만 존재
+ */
+public record VerifiedToken(
+        Long userId,
+        UserType role,
+        String nickname,
+        Instant expiresAt
+) {
+    public boolean hasPrincipalClaims() {
+        return role != null;
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -1,6 +1,8 @@
 package com.whenwemeet.backend.global.security.dto;
 
 import com.whenwemeet.backend.domain.user.entity.User;
+import com.whenwemeet.backend.domain.user.entity.UserType;
+import com.whenwemeet.backend.domain.user.service.cache.UserSnapshot;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
@@ -10,11 +12,26 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
 
+/**
+ * 인증 주체(principal)
+ * 요청마다 User 엔티티를 조회하지 않도록 AccessToken 클레임(id, role, nickname)만 담습니다.
+ * User 엔티티가 필요한 핸들러는 id로 직접 조회하거나 UserRepository.getReferenceById 를 사용합니다.
+ */
 @Getter
 @AllArgsConstructor
 public class CustomOAuth2User implements OAuth2User {
 
-    private final User user;
+    private final Long id;
+    private final UserType role;
+    private final String nickname;
+
+    public static CustomOAuth2User from(User user) {
+        return new CustomOAuth2User(user.getId(), user.getRole(), user.getNickname());
+    }
+
+    public static CustomOAuth2User from(UserSnapshot user) {
+        return new CustomOAuth2User(user.id(), user.role(), user.nickname());
+    }
 
     @Override
     public Map<String, Object> getAttributes() {
@@ -24,16 +41,12 @@ public class CustomOAuth2User implements OAuth2User {
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         Collection<GrantedAuthority> collection = new ArrayList<>();
-        collection.add(() -> "ROLE_" + user.getRole());
+        collection.add(() -> "ROLE_" + role);
         return collection;
     }
 
     @Override
     public String getName() {
-        return user.getNickname();
-    }
-
-    public Long getId(){
-        return user.getId() == null ? null : user.getId();
+        return nickname;
     }
 }
@@ -1,6 +1,9 @@
 package com.whenwemeet.backend.global.security.filter;
 
 import com.whenwemeet.backend.global.security.authentication.AuthenticationFactory;
+import com.whenwemeet.backend.global.security.authentication.JwtVerifier;
+import com.whenwemeet.backend.global.security.authentication.VerifiedToken;
+import com.whenwemeet.backend.global.security.dto.CustomOAuth2User;
 import com.whenwemeet.backend.global.util.JwtUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -18,6 +21,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -26,6 +30,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final AuthenticationFactory authenticationFactory;
+    private final JwtVerifier jwtVerifier;
 
     @Value("${spring.jwt.name.refresh-token}")
     private String REFRESH_TOKEN_NAME;
@@ -73,30 +78,35 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             //        ㄴ I) 해당 토큰을 활용해서 Authentication 생성
 
 
-            if(token == null || !jwtUtil.validateToken(token)) {
+            // 각 토큰은 요청당 한 번만 파싱/검증하고, 이후에는 검증된 클레임(VerifiedToken)만 사용합니다.
+            Optional<VerifiedToken> accessToken = jwtVerifier.verify(token);
+
+            Authentication authentication;
+            if(accessToken.isEmpty()) {
                 // 1) AccessToken이 없는 경우 RefreshToken이 있는지 Cookie에서 확인g
-                token = jwtUtil.tokenByCookie(request, REFRESH_TOKEN_NAME);
+                String refreshToken = jwtUtil.tokenByCookie(request, REFRESH_TOKEN_NAME);
+                // I-0) refreshToken 검증 후 redis에 저장된 토큰과 일치할 때만 재발급 (한 번의 왕복으로 비교+교체, 쿠키 갱신)
+                Optional<VerifiedToken> verifiedRefreshToken = jwtVerifier.verify(refreshToken)
+                        .filter(verified -> jwtUtil.rotateRefreshToken(verified, refreshToken, response));
 
-                if(token != null && jwtUtil.verifyRefreshToken(token)) {
-                    // I)  RefreshToken이 있는 경우
+                if(verifiedRefreshToken.isPresent()) {
+                    // I)  RefreshToken이 있는 경우 (RefreshToken에는 클레임이 없으므로 사용자 스냅샷으로 principal 생성)
+                    authentication = authenticationFactory.createAuthentication(verifiedRefreshToken.get());
+                    CustomOAuth2User principal = (CustomOAuth2User) authentication.getPrincipal();
 
                     // I-1) accessToken 발급 후 헤더에 저장
-                    Long userId = jwtUtil.getUserId(token);
-                    token = jwtUtil.generateAccessToken(userId);
-                    response.setHeader("Authorization", "Bearer " + token);
-
-                    // I-2) refreshToken 재발급 후 쿠키 갱신 및 redis 갱신
-                    jwtUtil.generateRefreshToken(userId, response);
+                    jwtUtil.generateAccessToken(principal, response);
                 }
                 else {
                     // II) RefreshToken이 없는 경우 -> 아무런 존재가 아닌 게스트사용자 이므로 다음 필터로 넘깁니다.
                     filterChain.doFilter(request, response);
                     return;
                 }
+            } else {
+                // 2) AccessToken이 있는 경우 검증된 클레임을 활용해서 Authentication 생성
+                authentication = authenticationFactory.createAuthentication(accessToken.get());
             }
 
-            // 2) AccessToken이 있는 경우 + refreshToken으로 재발급후  해당 토큰을 활용해서 Authentication 생성
-            Authentication authentication = authenticationFactory.createAuthentication(token);
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
         } catch (Exception e){
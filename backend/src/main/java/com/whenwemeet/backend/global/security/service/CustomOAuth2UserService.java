@@ -1,12 +1,9 @@
 package com.whenwemeet.backend.global.security.service;
 
-import com.whenwemeet.backend.domain.meetingRoom.entity.UserMeetingRoom;
-import com.whenwemeet.backend.domain.meetingRoom.repository.UserMeetingRoomRepository;
-import com.whenwemeet.backend.domain.schedule.entity.UnavailableTime;
-import com.whenwemeet.backend.domain.schedule.repository.UnavailableRepository;
 import com.whenwemeet.backend.domain.user.entity.User;
 import com.whenwemeet.backend.domain.user.entity.UserType;
 import com.whenwemeet.backend.domain.user.repository.UserRepository;
+import com.whenwemeet.backend.global.security.authentication.JwtVerifier;
 import com.whenwemeet.backend.global.security.dto.CustomOAuth2User;
 import com.whenwemeet.backend.global.security.dto.OAuth2Response;
 import com.whenwemeet.backend.global.util.JwtUtil;
@@ -19,14 +16,9 @@ import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -35,9 +27,9 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
     @Value("${spring.jwt.name.refresh-token}")
     private String REFRESH_TOKEN_NAME;
     private final UserRepository userRepository;
-    private final UserMeetingRoomRepository userMeetingRoomRepository;
-    private final UnavailableRepository unavailableRepository;
+    private final GuestMergeService guestMergeService;
     private final JwtUtil jwtUtil;
+    private final JwtVerifier jwtVerifier;
 
     @Override
     public OAuth2User loadUser (OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -60,7 +52,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         User user = getUser(request, oAuth2Response);
 
         // 5. Security context에 저장할 객체 생성
-        return new CustomOAuth2User(user);
+        return CustomOAuth2User.from(user);
     }
 
 
@@ -96,9 +88,9 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
             return handleUserLogin(oauthUser, oAuth2Response);
         }
 
-        // ii) 쿠키가 있다. -> 그럼 해당 쿠키의 정보를 가진 게스트 유저가 있는가?
-        Long userId = jwtUtil.getUserId(cookie);
-        User guestUser = userRepository.findById(userId) // 동일한 아이디가 있어도 그게 진짜 guest일때만 guestUser, 아니면 null
+        // ii) 쿠키가 있다. -> 그럼 해당 쿠키의 정보를 가진 게스트 유저가 있는가? (검증에 실패한 쿠키는 게스트 없음으로 처리)
+        User guestUser = jwtVerifier.verify(cookie)
+                .flatMap(verified -> userRepository.findById(verified.userId())) // 동일한 아이디가 있어도 그게 진짜 guest일때만 guestUser, 아니면 null
                 .filter(user -> user.getRole() == UserType.GUEST)
                 .orElse(null);
 
@@ -110,37 +102,11 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         // b) 게스트 로그인 기록이 존재한다. 그럼 기존에 oauth로그인 기록이 존재하는가?
         // (1) 존재하지 않는다. 그럼 기존 guest유저 정보를 oauth유저 정보로 승격한다.
         if(oauthUser == null){
-            guestUser.updateNewUser(oAuth2Response.toEntity());
-            return userRepository.save(guestUser);
+            return guestMergeService.upgrade(guestUser, oAuth2Response.toEntity());
         }
 
-        // (2) 존재한다. 기존 게스트 유저의 사용기록을 oauth유저로 이관한다.
-
-        // 참여중인 미팅룸의 ID 조회 (GuestUser, User)
-        HashSet<UserMeetingRoom> guestUserMeetingRoomIdSet = userMeetingRoomRepository.findAllByUser(guestUser);
-        HashSet<Long> userMeetingRoomIdSet = userMeetingRoomRepository.findMeetingRoomIdsByUser(oauthUser);
-
-        // 두 Set의 차집합 필터링 이후 해당 값에 대한 유저 변경
-        List<Long> removeIdList = new ArrayList<>();
-        guestUserMeetingRoomIdSet.forEach(umr -> {
-            if (userMeetingRoomIdSet.contains(umr.getMeetingRoom().getId())) {
-                // 여기선 겹치는 존재이기 때문에 guest데이터를 삭제해야한다. (한번에 삭제해야하니깐 그 리스트를 담아두는게 나을듯)
-                removeIdList.add(umr.getId());
-            } else {
-                //  여기선 겹치지 않기 때문에 userMeetingRoom 의 User를 변경해줘야 한다.
-                umr.changeUser(oauthUser);
-            }
-        });
-        userMeetingRoomRepository.saveAll(guestUserMeetingRoomIdSet);
-        userMeetingRoomRepository.deleteAllById(removeIdList);
-
-        // 방별로 등록한 불가능일정 모두 수정 (Unavailable)
-        List<UnavailableTime> unavailableList = unavailableRepository.findAllByUser(guestUser);
-        unavailableList.forEach(ut -> ut.changeUser(oauthUser));
-        unavailableRepository.saveAll(unavailableList);
-
-        // 기존 Oauth 유저 반환
-        return oauthUser;
+        // (2) 존재한다. 기존 게스트 유저의 사용기록을 oauth유저로 이관한다. (하나의 트랜잭션으로 처리)
+        return guestMergeService.merge(guestUser, oauthUser);
     }
 
     private User handleUserLogin(User oauthUser, OAuth2Response oAuth2Response){
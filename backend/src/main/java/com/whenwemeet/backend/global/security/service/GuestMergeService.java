@@ -0,0 +1,96 @@
+package com.whenwemeet.backend.global.security.service;
+
+import com.whenwemeet.backend.domain.meetingRoom.repository.MeetingRoomRepository;
+import com.whenwemeet.backend.domain.meetingRoom.repository.UserMeetingRoomRepository;
+import com.whenwemeet.backend.domain.schedule.repository.ScheduleRepository;
+import com.whenwemeet.backend.domain.schedule.repository.UnavailableRepository;
+import com.whenwemeet.backend.domain.schedule.service.availability.RoomAvailabilityStore;
+import com.whenwemeet.backend.domain.user.entity.User;
+import com.whenwemeet.backend.domain.user.repository.UserRepository;
+import com.whenwemeet.backend.domain.user.service.cache.UserSnapshotCache;
+import com.whenwemeet.backend.global.redis.RoomChangeCounter;
+import com.whenwemeet.backend.global.redis.RoomChangeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * 게스트 계정을 OAuth 계정으로 승격하거나, 게스트의 사용기록을 기존 OAuth 계정으로 이관합니다.
+ * CustomOAuth2UserService 내부 호출로는 트랜잭션 프록시를 거치지 않으므로 별도 빈으로 분리했으며,
+ * 승격/이관 중 실패하면 전체가 롤백되어 일부만 이관된 계정이 남지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class GuestMergeService {
+
+    private final UserRepository userRepository;
+    private final UserMeetingRoomRepository userMeetingRoomRepository;
+    private final MeetingRoomRepository meetingRoomRepository;
+    private final UnavailableRepository unavailableRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final RoomAvailabilityStore roomAvailabilityStore;
+    private final RoomChangeCounter roomChangeCounter;
+    private final UserSnapshotCache userSnapshotCache;
+
+    /**
+     * 게스트 유저 정보를 OAuth 유저 정보로 승격합니다.
+     * @param guestUser 승격할 게스트 유저
+     * @param oauthInfo OAuth 업체 측에서 제공한 사용자 정보로 만든 엔티티
+     * @return 승격된 유저
+     */
+    @Transactional
+    public User upgrade(User guestUser, User oauthInfo) {
+        guestUser.updateNewUser(oauthInfo);
+        User upgradedUser = userRepository.save(guestUser);
+        userSnapshotCache.evictAfterCommit(upgradedUser.getId());
+
+        // 닉네임/프로필이 바뀌었으므로 참여중인 미팅룸의 변경 카운터 증가
+        userMeetingRoomRepository.findMeetingRoomIdsByUser(upgradedUser)
+                .forEach(id -> roomChangeCounter.increaseAfterCommit(id, RoomChangeType.MEMBER));
+        return upgradedUser;
+    }
+
+    /**
+     * 엔티티를 하나씩 읽어 수정하지 않고, 게스트의 활동량과 관계없이 고정된 개수의 벌크 UPDATE/DELETE로 이관합니다.
+     * 캐시 폐기와 변경 카운터 증가는 커밋 이후에 실행됩니다.
+     * @param guestUser 이관할 게스트 유저
+     * @param oauthUser 이관받을 OAuth 유저
+     * @return OAuth 유저
+     */
+    @Transactional
+    public User merge(User guestUser, User oauthUser) {
+        // 1) 게스트가 참여중인 미팅룸, 그중 OAuth 유저도 참여중인 미팅룸의 ID 조회
+        HashSet<Long> guestMeetingRoomIds = userMeetingRoomRepository.findMeetingRoomIdsByUser(guestUser);
+        List<Long> sharedMeetingRoomIds = userMeetingRoomRepository.findSharedMeetingRoomIds(guestUser.getId(), oauthUser.getId());
+
+        // 2) 겹치는 미팅룸의 게스트 매핑은 삭제하고 참여 인원 수 감소
+        int removed = 0;
+        if (!sharedMeetingRoomIds.isEmpty()) {
+            removed = userMeetingRoomRepository.deleteUserInMeetingRooms(guestUser.getId(), sharedMeetingRoomIds);
+            meetingRoomRepository.decreaseMemberCountIn(sharedMeetingRoomIds);
+        }
+
+        // 3) 겹치지 않는 나머지 매핑은 OAuth 유저로 변경하고, 옮겨간 만큼 참여 미팅룸 수 이관
+        int moved = userMeetingRoomRepository.reassignUser(guestUser.getId(), oauthUser);
+        userRepository.addMeetingRoomCount(oauthUser.getId(), moved);
+        userRepository.addMeetingRoomCount(guestUser.getId(), -(removed + moved));
+
+        // 4) 방별로 등록한 불가능일정(Unavailable), 반복 규칙(Schedule) 모두 OAuth 유저로 변경
+        unavailableRepository.reassignUser(guestUser.getId(), oauthUser);
+        scheduleRepository.reassignUser(guestUser.getId(), oauthUser);
+
+        // 5) 게스트가 참여했던 미팅룸의 가능 여부 집계는 멤버가 바뀌었으므로 폐기
+        guestMeetingRoomIds.forEach(meetingRoomId -> {
+            roomAvailabilityStore.evictAfterCommit(meetingRoomId);
+            roomChangeCounter.increaseAfterCommit(meetingRoomId, RoomChangeType.MEMBER);
+        });
+
+        // 6) 게스트 계정은 더 이상 사용하지 않으므로 스냅샷 폐기
+        userSnapshotCache.evictAfterCommit(guestUser.getId());
+
+        return oauthUser;
+    }
+}
@@ -1,10 +1,10 @@
 package com.whenwemeet.backend.global.util;
 
-import com.whenwemeet.backend.global.redis.RefreshRepository;
-import com.whenwemeet.backend.global.redis.RefreshToken;
-import io.jsonwebtoken.*;
+import com.whenwemeet.backend.global.redis.RefreshTokenStore;
+import com.whenwemeet.backend.global.security.authentication.VerifiedToken;
+import com.whenwemeet.backend.global.security.dto.CustomOAuth2User;
+import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
-import io.jsonwebtoken.security.SignatureException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -16,14 +16,17 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
-import java.util.Optional;
+import java.util.UUID;
 
 @Slf4j
 @Component
 public class JwtUtil {
 
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_NICKNAME = "nickname";
+
     private final SecretKey secretKey;
-    private final RefreshRepository refreshRepository;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Value("${spring.jwt.expiration.access-token}")
     private long ACCESS_TOKEN_EXPIRE_TIME;
@@ -41,21 +44,33 @@ public class JwtUtil {
     @Value("${spring.jwt.issuer}")
     private String ISSUER;
 
-    public JwtUtil(@Value("${spring.jwt.secret}") String key, RefreshRepository refreshRepository) {
+    public JwtUtil(@Value("${spring.jwt.secret}") String key, RefreshTokenStore refreshTokenStore) {
         // String 키를 SecretKey 객체로 변환
         this.secretKey = Keys.hmacShaKeyFor(key.getBytes(StandardCharsets.UTF_8));
-        this.refreshRepository = refreshRepository;
+        this.refreshTokenStore = refreshTokenStore;
     }
 
     /**
      * Access Token 생성
+     * 요청마다 사용자를 조회하지 않도록 인증 주체를 만드는 데 필요한 role, nickname을 클레임으로 함께 담습니다.
      */
-    public String generateAccessToken(Long userId) {
-        return createToken(userId, ACCESS_TOKEN_EXPIRE_TIME);
+    public String generateAccessToken(CustomOAuth2User user) {
+        Date now = new Date();
+        Date expireDate = new Date(now.getTime() + ACCESS_TOKEN_EXPIRE_TIME);
+
+        return Jwts.builder()
+                .subject(user.getId().toString())
+                .claim(CLAIM_ROLE, user.getRole().name())
+                .claim(CLAIM_NICKNAME, user.getNickname())
+                .issuedAt(now)
+                .expiration(expireDate)
+                .issuer(ISSUER)
+                .signWith(secretKey, Jwts.SIG.HS512) // 서명 (HS512 알고리즘)
+                .compact();
     }
 
-    public void generateAccessToken(Long userId, HttpServletResponse response) {
-        String token = createToken(userId, ACCESS_TOKEN_EXPIRE_TIME);
+    public void generateAccessToken(CustomOAuth2User user, HttpServletResponse response) {
+        String token = generateAccessToken(user);
         response.setHeader("Authorization", "Bearer " + token);
     }
 
@@ -66,9 +81,36 @@ public class JwtUtil {
         String token = createToken(userId, REFRESH_TOKEN_EXPIRE_TIME);
 
         // refreshToken redis 저장
-        RefreshToken refreshToken = new RefreshToken(userId, token, REFRESH_TOKEN_EXPIRE_TIME);
-        refreshRepository.save(refreshToken);
+        refreshTokenStore.save(userId, token, REFRESH_TOKEN_EXPIRE_TIME);
+
+        // 쿠키 저장
+        setRefreshTokenCookie(token, response);
+    }
+
+    /**
+     * 검증된 RefreshToken을 새 토큰으로 교체하고 쿠키를 갱신합니다.
+     * Redis에 저장된 토큰과 일치할 때만 교체하므로(한 번의 왕복), 이미 교체됐거나 로그아웃된 토큰은 거부됩니다.
+     * @return 교체 성공 여부
+     */
+    public boolean rotateRefreshToken(VerifiedToken verified, String currentToken, HttpServletResponse response) {
+        String token = createToken(verified.userId(), REFRESH_TOKEN_EXPIRE_TIME);
 
+        if (!refreshTokenStore.rotate(verified.userId(), currentToken, token, REFRESH_TOKEN_EXPIRE_TIME)) {
+            return false;
+        }
+
+        setRefreshTokenCookie(token, response);
+        return true;
+    }
+
+    /**
+     * 사용자의 RefreshToken을 폐기합니다. (로그아웃)
+     */
+    public void revokeRefreshToken(Long userId) {
+        refreshTokenStore.delete(userId);
+    }
+
+    private void setRefreshTokenCookie(String token, HttpServletResponse response) {
         // 쿠키 생성
         ResponseCookie cookie = createCookie(REFRESH_TOKEN_NAME, token, REFRESH_TOKEN_EXPIRE_TIME);
 
@@ -110,6 +152,7 @@ public class JwtUtil {
 
         return Jwts.builder()
                 .subject(userId.toString()) // 사용자 ID
+                .id(UUID.randomUUID().toString()) // 같은 초에 발급돼도 토큰이 달라지도록 (재발급 CAS 비교용)
                 .issuedAt(now) // 발급 시간
                 .expiration(expireDate) // 만료 시간
                 .issuer(ISSUER) // 발급자
@@ -117,35 +160,6 @@ public class JwtUtil {
                 .compact();
     }
 
-    public boolean validateToken(String token) {
-        try{
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .requireIssuer(ISSUER)
-                    .build()
-                    .parseSignedClaims(token);
-
-            return true;
-        } catch (ExpiredJwtException e){
-            log.error("만료된 JWT 토큰입니다: {}", e.getMessage());
-            return false;
-        } catch (SignatureException e){
-            log.error("JWT 서명이 유효하지 않습니다: {}", e.getMessage());
-            return false;
-        } catch (MalformedJwtException e) {
-            log.error("잘못된 JWT 구조입니다: {}", e.getMessage());
-            return false;
-        } catch (UnsupportedJwtException e) {
-            log.error("지원하지 않는 JWT 토큰입니다: {}", e.getMessage());
-            return false;
-        } catch (IllegalArgumentException e){
-            log.error("JWT 토큰이 비어있습니다: {}", e.getMessage());
-            return false;
-        } catch (Exception e){
-            return false;
-        }
-    }
-
     public ResponseCookie expireRefreshTokenCookie(HttpServletResponse response) {
         return ResponseCookie.from(REFRESH_TOKEN_NAME, "")
                 .httpOnly(true)
@@ -166,32 +180,6 @@ public class JwtUtil {
                 .build();
     }
 
-    public Long getUserId(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)              // 서명 검증
-                .requireIssuer(ISSUER)              // 발급자 검증 (권장)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return Long.valueOf(claims.getSubject());
-    }
-
-    public boolean verifyRefreshToken(String token) {
-        try {
-            long userIdInToken = getUserId(token);
-
-            Optional<RefreshToken> tokenInRedis =
-                    refreshRepository.findById(userIdInToken);
-
-            return tokenInRedis.filter(refreshToken -> validateToken(token)
-                    && refreshToken.getRefreshToken().equals(token)).isPresent();
-
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
     public String tokenByCookie(HttpServletRequest request, String tokenName){
         Cookie[] cookies = request.getCookies();
 
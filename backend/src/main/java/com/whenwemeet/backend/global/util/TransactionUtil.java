@@ -0,0 +1,28 @@
+package com.whenwemeet.backend.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtil {
+
+    private TransactionUtil() {}
+
+    /**
+     * 현재 트랜잭션이 커밋된 이후에 작업을 실행합니다.
+     * 트랜잭션 밖에서 호출된 경우에는 즉시 실행합니다.
+     * @param action 커밋 이후 실행할 작업
+     */
+    public static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,67 @@
+-- ddl-auto로 생성되던 최초 스키마
+-- 이미 ddl-auto로 생성된 DB는 spring.flyway.baseline-on-migrate로 이 버전을 건너뛰고 V2부터 적용합니다.
+
+create table users (
+    id              bigint       not null,
+    created_at      datetime(6)  not null,
+    updated_at      datetime(6),
+    is_deleted      bit          not null,
+    nickname        varchar(255),
+    provider        varchar(255),
+    provider_id     varchar(255),
+    role            enum ('GUEST','MEMBER'),
+    profile_img_url varchar(255),
+    primary key (id),
+    constraint uk_users_provider_provider_id unique (provider, provider_id)
+) engine = InnoDB;
+
+create table meeting_room (
+    id           bigint       not null auto_increment,
+    created_at   datetime(6)  not null,
+    updated_at   datetime(6),
+    is_deleted   bit          not null,
+    name         varchar(255) not null,
+    start_date   date,
+    start_time   time(6),
+    end_time     time(6),
+    meeting_date datetime(6),
+    share_code   varchar(255),
+    share_count  integer,
+    version      bigint,
+    primary key (id)
+) engine = InnoDB;
+
+create table user_meeting_room (
+    id              bigint                  not null auto_increment,
+    role            enum ('HOST','MEMBER')  not null,
+    join_at         datetime(6)             not null,
+    user_id         bigint                  not null,
+    meeting_room_id bigint                  not null,
+    primary key (id),
+    constraint fk_user_meeting_room_user foreign key (user_id) references users (id),
+    constraint fk_user_meeting_room_meeting_room foreign key (meeting_room_id) references meeting_room (id)
+) engine = InnoDB;
+
+create table unavailable_time (
+    id                     bigint       not null auto_increment,
+    detail                 varchar(255),
+    unavailable_date       date         not null,
+    unavailable_start_time time(6)      not null,
+    unavailable_end_time   time(6)      not null,
+    user_id                bigint       not null,
+    meeting_room_id        bigint       not null,
+    primary key (id),
+    constraint fk_unavailable_time_user foreign key (user_id) references users (id),
+    constraint fk_unavailable_time_meeting_room foreign key (meeting_room_id) references meeting_room (id)
+) engine = InnoDB;
+
+create table schedule (
+    id         bigint       not null auto_increment,
+    detail     varchar(255),
+    day_type   tinyint      not null,
+    start_time time(6)      not null,
+    end_time   time(6)      not null,
+    user_id    bigint       not null,
+    primary key (id),
+    constraint fk_schedule_user foreign key (user_id) references users (id)
+) engine = InnoDB;
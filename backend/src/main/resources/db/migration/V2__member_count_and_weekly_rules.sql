@@ -0,0 +1,93 @@
+-- ddl-auto로 운영하던 DB에는 이 스크립트가 추가하는 컬럼이 이미 있을 수 있으므로(baseline-on-migrate로 V2부터 적용),
+-- 컬럼/외래키 추가는 information_schema로 존재 여부를 확인한 뒤 실행하고, 기존 행은 삭제하지 않고 그대로 변환합니다.
+
+-- 1) 같은 미팅룸에 중복으로 참여한 행 정리 (참여 인원 수에 중복 집계되지 않도록 backfill 전에 진행, 가장 먼저 참여한 행만 남김)
+delete dup
+from user_meeting_room dup
+         join user_meeting_room kept
+              on kept.user_id = dup.user_id
+                  and kept.meeting_room_id = dup.meeting_room_id
+                  and kept.id < dup.id;
+
+-- 2) 참여 인원 수 컬럼 추가 후 user_meeting_room 기준으로 채움 (이후에는 입장/퇴장 시 벌크 UPDATE로만 증감)
+set @ddl = (select if(count(*) = 0,
+                      'alter table meeting_room add column member_count integer not null default 0',
+                      'do 0')
+            from information_schema.columns
+            where table_schema = database() and table_name = 'meeting_room' and column_name = 'member_count');
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
+
+update meeting_room mr
+set mr.member_count = (select count(*)
+                       from user_meeting_room umr
+                       where umr.meeting_room_id = mr.id);
+
+-- 3) 반복 규칙(schedule)은 미팅룸별로 저장하고 요일을 문자열로 저장
+-- 3-1) 미팅룸 컬럼 추가
+set @ddl = (select if(count(*) = 0,
+                      'alter table schedule add column meeting_room_id bigint',
+                      'do 0')
+            from information_schema.columns
+            where table_schema = database() and table_name = 'schedule' and column_name = 'meeting_room_id');
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
+
+-- 3-2) 미팅룸이 없는 이전 규칙은 작성한 사용자가 참여중인 미팅룸마다 복사한 뒤 원본을 삭제
+--      (참여중인 미팅룸이 없는 규칙은 어떤 집계에도 쓰이지 않으므로 함께 삭제, 복사본 id는 기존 최대 id 이후로 부여)
+insert into schedule (id, detail, day_type, start_time, end_time, user_id, meeting_room_id)
+select base.max_id + row_number() over (order by s.id, umr.meeting_room_id),
+       s.detail, s.day_type, s.start_time, s.end_time, s.user_id, umr.meeting_room_id
+from schedule s
+         join user_meeting_room umr on umr.user_id = s.user_id
+         cross join (select max(id) as max_id from schedule) base
+where s.meeting_room_id is null;
+
+delete from schedule
+where meeting_room_id is null;
+
+-- 3-3) 요일이 순서값(tinyint, DayType.ordinal)으로 저장돼 있다면 이름으로 변환
+set @day_type_is_ordinal = (select count(*)
+                            from information_schema.columns
+                            where table_schema = database() and table_name = 'schedule'
+                              and column_name = 'day_type' and data_type = 'tinyint');
+
+set @ddl = if(@day_type_is_ordinal = 1,
+              'alter table schedule add column day_type_name enum (''MON'',''TUE'',''WED'',''THU'',''FRI'',''SAT'',''SUN'')',
+              'do 0');
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
+
+set @ddl = if(@day_type_is_ordinal = 1,
+              'update schedule set day_type_name = elt(day_type + 1, ''MON'',''TUE'',''WED'',''THU'',''FRI'',''SAT'',''SUN'')',
+              'do 0');
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
+
+set @ddl = if(@day_type_is_ordinal = 1,
+              'alter table schedule drop column day_type, rename column day_type_name to day_type',
+              'do 0');
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
+
+-- 3-4) 컬럼 제약 정리 (id는 애플리케이션이 TSID로 발급)
+alter table schedule
+    modify column id bigint not null,
+    modify column day_type enum ('MON','TUE','WED','THU','FRI','SAT','SUN') not null,
+    modify column meeting_room_id bigint not null;
+
+-- 3-5) 미팅룸 외래키 추가
+set @ddl = (select if(count(*) = 0,
+                      'alter table schedule add constraint fk_schedule_meeting_room foreign key (meeting_room_id) references meeting_room (id)',
+                      'do 0')
+            from information_schema.key_column_usage
+            where table_schema = database() and table_name = 'schedule'
+              and column_name = 'meeting_room_id' and referenced_table_name = 'meeting_room');
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
@@ -0,0 +1,29 @@
+-- 조회가 잦은 쿼리의 조건 컬럼 순서에 맞춘 인덱스
+-- (외래키 때문에 자동으로 생성된 단일 컬럼 인덱스는 아래 인덱스가 외래키를 대신하면서 MySQL이 자동으로 제거합니다.)
+
+-- 공유코드 조회 (입장, 공유링크 요약, 스냅샷 캐시 로드) / 공유코드 중복 방지
+-- 이전 발급 방식(UUID 일부)으로 이미 겹친 공유코드가 있다면 유니크 인덱스를 만들 수 없으므로,
+-- 가장 먼저 생성된 미팅룸만 공유코드를 유지하고 나머지는 미팅룸 id를 덧붙인 코드로 재발급 (기존 초대링크는 만료됨)
+-- 이전 코드(UUID 16진수 13자리)와 현재 코드(base62)에는 '-'가 없으므로, '-' + id를 덧붙인 코드는 서로, 그리고 기존 코드와도 겹치지 않음
+update meeting_room dup
+    join meeting_room kept
+    on kept.share_code = dup.share_code
+        and kept.id < dup.id
+set dup.share_code = concat(dup.share_code, '-', dup.id);
+
+create unique index uk_meeting_room_share_code on meeting_room (share_code);
+
+-- 참여 여부 확인, 내 미팅룸 목록 (user_id = ?) / 같은 미팅룸에 중복 참여 방지
+create unique index uk_user_meeting_room_user_room on user_meeting_room (user_id, meeting_room_id);
+
+-- 미팅룸 멤버 목록, 미팅룸 삭제 (meeting_room_id = ?)
+create index idx_user_meeting_room_room_user on user_meeting_room (meeting_room_id, user_id);
+
+-- 미팅룸 집계 생성 (meeting_room_id = ? / in (...)), 내 불가능한 시간대 조회와 일정 반영 (meeting_room_id = ? and user_id = ?)
+-- 조회하는 컬럼을 모두 포함해 테이블 행을 읽지 않고 인덱스만으로 처리 (covering index)
+create index idx_unavailable_time_room_user
+    on unavailable_time (meeting_room_id, user_id, unavailable_date, unavailable_start_time, unavailable_end_time);
+
+-- 미팅룸 반복 규칙 집계 생성, 내 반복 규칙 조회 (meeting_room_id = ? [and user_id = ?])
+create index idx_schedule_room_user
+    on schedule (meeting_room_id, user_id, day_type, start_time, end_time);
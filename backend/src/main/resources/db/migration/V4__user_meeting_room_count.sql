@@ -0,0 +1,9 @@
+-- 사용자별 참여중인 미팅룸 수 (내 미팅룸 목록의 전체 개수를 매 요청마다 count 하지 않도록 비정규화)
+-- 이후에는 미팅룸 생성/입장/퇴장/삭제, 게스트 병합, 보관 정책 정리 시 벌크 UPDATE로만 증감
+alter table users
+    add column meeting_room_count integer not null default 0;
+
+update users u
+set u.meeting_room_count = (select count(*)
+                            from user_meeting_room umr
+                            where umr.user_id = u.id);
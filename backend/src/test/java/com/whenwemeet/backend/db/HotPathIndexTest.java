@@ -0,0 +1,218 @@
+package com.whenwemeet.backend.db;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.flyway.autoconfigure.FlywayAutoConfiguration;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jdbc.test.autoconfigure.JdbcTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Flyway 마이그레이션으로 생성한 MySQL 스키마에서
+ * 1) 자주 실행되는 조회 쿼리(UnavailableCustomRepositoryImpl, UserMeetingRoomCustomRepositoryImpl 등)가 의도한 인덱스를 사용하고
+ * 2) 공유코드, (사용자, 미팅룸) 중복이 유니크 인덱스로 막히는지 EXPLAIN 결과로 확인합니다.
+ */
+@JdbcTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.sql.init.mode=never"
+})
+@ImportAutoConfiguration(FlywayAutoConfiguration.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class HotPathIndexTest {
+
+    private static final int ROOM_COUNT = 100;
+    private static final int USER_COUNT = 500;
+    private static final int ROOMS_PER_USER = 5;
+    private static final int DATES_PER_MEMBER = 8;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer mysql = new MySQLContainer("mysql:8.4");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = LocalDate.now();
+
+        List<Object[]> rooms = new ArrayList<>();
+        for (long id = 1; id <= ROOM_COUNT; id++) {
+            rooms.add(new Object[]{id, now, "room-" + id, today, LocalTime.of(9, 0), LocalTime.of(18, 0), "code-" + id});
+        }
+        jdbcTemplate.batchUpdate("""
+                insert into meeting_room (id, created_at, is_deleted, name, start_date, start_time, end_time, share_code, share_count, member_count, version)
+                values (?, ?, false, ?, ?, ?, ?, ?, 30, 0, 0)""", rooms);
+
+        List<Object[]> users = new ArrayList<>();
+        for (long id = 1; id <= USER_COUNT; id++) {
+            users.add(new Object[]{id, now, "user-" + id});
+        }
+        jdbcTemplate.batchUpdate("""
+                insert into users (id, created_at, is_deleted, nickname, role)
+                values (?, ?, false, ?, 'GUEST')""", users);
+
+        List<Object[]> members = new ArrayList<>();
+        List<Object[]> unavailableTimes = new ArrayList<>();
+        List<Object[]> schedules = new ArrayList<>();
+        long rowId = 1;
+        for (long userId = 1; userId <= USER_COUNT; userId++) {
+            for (int k = 0; k < ROOMS_PER_USER; k++) {
+                long roomId = (userId * 7 + k * 13L) % ROOM_COUNT + 1;
+                members.add(new Object[]{rowId++, now, userId, roomId});
+                for (int d = 0; d < DATES_PER_MEMBER; d++) {
+                    unavailableTimes.add(new Object[]{rowId++, today.plusDays(d), LocalTime.of(9, 0), LocalTime.of(12, 0), userId, roomId});
+                }
+                schedules.add(new Object[]{rowId++, "MON", LocalTime.of(9, 0), LocalTime.of(12, 0), userId, roomId});
+            }
+        }
+        jdbcTemplate.batchUpdate("""
+                insert into user_meeting_room (id, role, join_at, user_id, meeting_room_id)
+                values (?, 'MEMBER', ?, ?, ?)""", members);
+        jdbcTemplate.batchUpdate("""
+                insert into unavailable_time (id, unavailable_date, unavailable_start_time, unavailable_end_time, user_id, meeting_room_id)
+                values (?, ?, ?, ?, ?, ?)""", unavailableTimes);
+        jdbcTemplate.batchUpdate("""
+                insert into schedule (id, day_type, start_time, end_time, user_id, meeting_room_id)
+                values (?, ?, ?, ?, ?, ?)""", schedules);
+
+        jdbcTemplate.execute("analyze table meeting_room, users, user_meeting_room, unavailable_time, schedule");
+    }
+
+    @Test
+    void shareCodeLookupUsesUniqueShareCodeIndex() {
+        Map<String, Object> plan = explain("mr", """
+                select mr.name, mr.member_count
+                from meeting_room mr
+                where mr.is_deleted = false and mr.share_code = ?""", "code-1");
+
+        assertThat(plan.get("key")).isEqualTo("uk_meeting_room_share_code");
+    }
+
+    @Test
+    void meetingListStartsFromUserRoomUniqueIndex() {
+        Map<String, Object> plan = explain("umr", """
+                select umr.id, umr.join_at, mr.name, umr.role, mr.member_count, mr.meeting_date, mr.share_code
+                from user_meeting_room umr
+                join meeting_room mr on mr.id = umr.meeting_room_id
+                where umr.user_id = ? and mr.is_deleted = false
+                order by umr.join_at desc, umr.id desc
+                limit 11""", 1L);
+
+        assertThat(plan.get("key")).isEqualTo("uk_user_meeting_room_user_room");
+    }
+
+    @Test
+    void membershipCheckReadsSingleRowByUserRoomUniqueIndex() {
+        Map<String, Object> plan = explain("umr", """
+                select umr.id
+                from user_meeting_room umr
+                where umr.user_id = ? and umr.meeting_room_id = ?""", 1L, 8L);
+
+        assertThat(plan.get("key")).isEqualTo("uk_user_meeting_room_user_room");
+        assertThat(plan.get("type")).isEqualTo("const");
+    }
+
+    @Test
+    void roomMembersUseRoomUserIndex() {
+        Map<String, Object> plan = explain("umr", """
+                select u.id, u.nickname, u.profile_img_url
+                from user_meeting_room umr
+                join users u on u.id = umr.user_id
+                where umr.meeting_room_id = ?
+                order by u.id""", 1L);
+
+        assertThat(plan.get("key")).isEqualTo("idx_user_meeting_room_room_user");
+    }
+
+    @Test
+    void roomUnavailableTimesAreCoveredByIndex() {
+        Map<String, Object> plan = explain("ut", """
+                select ut.user_id, ut.unavailable_date, ut.unavailable_start_time, ut.unavailable_end_time
+                from unavailable_time ut
+                where ut.meeting_room_id = ?""", 1L);
+
+        assertThat(plan.get("key")).isEqualTo("idx_unavailable_time_room_user");
+        assertThat((String) plan.get("Extra")).contains("Using index");
+    }
+
+    @Test
+    void batchRoomUnavailableTimesAreCoveredByIndex() {
+        Map<String, Object> plan = explain("ut", """
+                select ut.meeting_room_id, ut.user_id, ut.unavailable_date, ut.unavailable_start_time, ut.unavailable_end_time
+                from unavailable_time ut
+                where ut.meeting_room_id in (?, ?, ?)""", 1L, 2L, 3L);
+
+        assertThat(plan.get("key")).isEqualTo("idx_unavailable_time_room_user");
+        assertThat((String) plan.get("Extra")).contains("Using index");
+    }
+
+    @Test
+    void memberUnavailableTimesAreCoveredByIndex() {
+        Map<String, Object> plan = explain("ut", """
+                select ut.unavailable_date, ut.unavailable_start_time, ut.unavailable_end_time
+                from unavailable_time ut
+                where ut.meeting_room_id = ? and ut.user_id = ?""", 8L, 1L);
+
+        assertThat(plan.get("key")).isEqualTo("idx_unavailable_time_room_user");
+        assertThat((String) plan.get("Extra")).contains("Using index");
+    }
+
+    @Test
+    void roomWeeklyRulesAreCoveredByIndex() {
+        Map<String, Object> plan = explain("s", """
+                select s.user_id, s.day_type, s.start_time, s.end_time
+                from schedule s
+                where s.meeting_room_id = ?""", 1L);
+
+        assertThat(plan.get("key")).isEqualTo("idx_schedule_room_user");
+        assertThat((String) plan.get("Extra")).contains("Using index");
+    }
+
+    @Test
+    void duplicateMembershipIsRejected() {
+        assertThatThrownBy(() -> jdbcTemplate.update("""
+                insert into user_meeting_room (id, role, join_at, user_id, meeting_room_id)
+                values (?, 'MEMBER', ?, ?, ?)""", Long.MAX_VALUE, LocalDateTime.now(), 1L, 8L))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
+
+    @Test
+    void duplicateShareCodeIsRejected() {
+        assertThatThrownBy(() -> jdbcTemplate.update("""
+                insert into meeting_room (id, created_at, is_deleted, name, share_code, share_count, member_count, version)
+                values (?, ?, false, 'duplicate', 'code-1', 30, 0, 0)""", Long.MAX_VALUE, LocalDateTime.now()))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
+
+    /**
+     * 쿼리의 실행 계획 중 alias에 해당하는 테이블의 행을 반환합니다.
+     */
+    private Map<String, Object> explain(String alias, String sql, Object... args) {
+        return jdbcTemplate.queryForList("explain " + sql, args).stream()
+                .filter(row -> alias.equals(row.get("table")))
+                .findFirst()
+                .orElseThrow();
+    }
+}
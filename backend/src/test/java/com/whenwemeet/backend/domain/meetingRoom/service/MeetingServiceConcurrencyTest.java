@@ -0,0 +1,164 @@
+package com.whenwemeet.backend.domain.meetingRoom.service;
+
+import com.whenwemeet.backend.domain.meetingRoom.entity.MeetingRoom;
+import com.whenwemeet.backend.domain.meetingRoom.repository.MeetingRoomRepository;
+import com.whenwemeet.backend.domain.meetingRoom.repository.UserMeetingRoomRepository;
+import com.whenwemeet.backend.domain.user.entity.User;
+import com.whenwemeet.backend.domain.user.entity.UserType;
+import com.whenwemeet.backend.domain.user.repository.UserRepository;
+import com.whenwemeet.backend.global.exception.type.NotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 공유코드로 수백 명이 동시에 입장할 때
+ * 1) 입장이 누락되지 않고 (참여 인원 수 = 성공한 입장 수)
+ * 2) 공유코드 하나당 정확히 SHARE_COUNT 명만 입장하며, 재발급은 한 번만 일어나는지 확인합니다.
+ * MySQL/Redis는 Testcontainers로 띄우며, 나머지 애플리케이션 환경 변수(JWT, OAuth 등)가 필요하므로
+ * 기본 test 태스크에서는 제외하고 integrationTest 태스크로 실행합니다.
+ */
+@SpringBootTest
+@Testcontainers
+@Tag("integration")
+class MeetingServiceConcurrencyTest {
+
+    private static final int JOIN_COUNT = MeetingRoom.SHARE_COUNT * 10;
+    private static final int MAX_ATTEMPTS = 100;
+
+    @Container
+    static MySQLContainer mysql = new MySQLContainer("mysql:8.4");
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7.4").withExposedPorts(6379);
+
+    // primary DataSource는 spring.datasource.* 값으로 직접 생성하므로 @ServiceConnection 대신 속성으로 연결 정보를 전달
+    @DynamicPropertySource
+    static void containerProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+        registry.add("spring.datasource.driver-class-name", mysql::getDriverClassName);
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+        registry.add("spring.data.redis.password", () -> "");
+    }
+
+    @Autowired
+    private MeetingService meetingService;
+    @Autowired
+    private MeetingRoomRepository meetingRoomRepository;
+    @Autowired
+    private UserMeetingRoomRepository userMeetingRoomRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private MeetingRoom room;
+    private List<User> users;
+
+    @BeforeEach
+    void setUp() {
+        room = meetingRoomRepository.save(MeetingRoom.builder()
+                .name("concurrency-test")
+                .startDate(LocalDate.now())
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(18, 0))
+                .shareCode(UUID.randomUUID().toString().replace("-", "").substring(0, 13))
+                .build());
+
+        users = userRepository.saveAll(IntStream.range(0, JOIN_COUNT)
+                .mapToObj(i -> User.builder()
+                        .nickname("guest-" + i)
+                        .role(UserType.GUEST)
+                        .build())
+                .toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            userMeetingRoomRepository.deleteAllUserInMeetingRoom(room.getId());
+            meetingRoomRepository.deleteById(room.getId());
+            userRepository.deleteAllById(users.stream().map(User::getId).toList());
+        });
+    }
+
+    @Test
+    void concurrentJoinsAreNotLostAndRotateShareCodeExactlyOnce() throws InterruptedException {
+        Map<String, AtomicInteger> joinsPerShareCode = new ConcurrentHashMap<>();
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (User user : users) {
+                executor.submit(() -> {
+                    start.await();
+                    join(user.getId(), joinsPerShareCode, failures);
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        assertThat(failures).isEmpty();
+
+        // 공유코드마다 정확히 SHARE_COUNT 명씩 입장 (재발급이 중복되면 코드 수와 코드별 인원이 어긋남)
+        assertThat(joinsPerShareCode).hasSize(JOIN_COUNT / MeetingRoom.SHARE_COUNT);
+        assertThat(joinsPerShareCode.values())
+                .allSatisfy(count -> assertThat(count.get()).isEqualTo(MeetingRoom.SHARE_COUNT));
+
+        // 입장 누락 없음
+        MeetingRoom result = meetingRoomRepository.findById(room.getId()).orElseThrow();
+        assertThat(result.getMemberCount()).isEqualTo(JOIN_COUNT);
+        assertThat(users).allSatisfy(user ->
+                assertThat(userMeetingRoomRepository.existsByUserIdAndMeetingRoomId(user.getId(), room.getId())).isTrue());
+
+        // 마지막 입장에서 재발급된 새 공유코드는 아직 사용되지 않음
+        assertThat(result.getShareCount()).isEqualTo(MeetingRoom.SHARE_COUNT);
+        assertThat(joinsPerShareCode).doesNotContainKey(result.getShareCode());
+    }
+
+    /**
+     * 클라이언트처럼 현재 공유코드로 입장하고, 다른 요청이 먼저 재발급했다면 새 공유코드로 다시 시도합니다.
+     */
+    private void join(Long userId, Map<String, AtomicInteger> joinsPerShareCode, Queue<Throwable> failures) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            String shareCode = meetingRoomRepository.findById(room.getId()).orElseThrow().getShareCode();
+            try {
+                meetingService.enterMeetingRoom(userId, shareCode);
+                joinsPerShareCode.computeIfAbsent(shareCode, code -> new AtomicInteger()).incrementAndGet();
+                return;
+            } catch (NotFoundException e) {
+                // 만료된 공유코드 -> 재시도
+            } catch (Throwable e) {
+                failures.add(e);
+                return;
+            }
+        }
+        failures.add(new IllegalStateException("입장 재시도 횟수 초과 (userId=" + userId + ")"));
+    }
+}
@@ -0,0 +1,210 @@
+package com.whenwemeet.backend.domain.schedule.service.availability;
+
+import com.whenwemeet.backend.domain.meetingRoom.entity.enumType.DayType;
+import com.whenwemeet.backend.domain.schedule.dto.request.ScheduleRequest;
+import com.whenwemeet.backend.domain.schedule.dto.response.MemberUnavailableTime;
+import com.whenwemeet.backend.domain.schedule.dto.response.MemberWeeklyRule;
+import com.whenwemeet.backend.domain.schedule.dto.response.RankedRecommendList;
+import com.whenwemeet.backend.domain.schedule.dto.response.RecommendList;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 미팅룸 집계(RoomAvailability)가 불가능한 시간대를 10분 슬롯으로 올바르게 변환하는지 확인합니다.
+ * 1) 희망 시간대와 경계만 맞닿은 시간대는 반영하지 않고, 걸쳐 있는 시간대는 희망 시간대 안쪽만 반영하는지
+ * 2) 슬롯의 일부만 겹치더라도 슬롯 전체를 불가능으로 처리하는지
+ * 3) 반복 규칙은 해당 요일에만 적용되고, 같은 멤버의 날짜별 일정과는 멤버 단위로 합쳐지는지
+ * 4) 일정 교체/퇴장 이후에도 슬롯별 불가능 인원 수가 어긋나지 않는지
+ * 5) 일부 참석 추천(findBestSlots)이 최소 참석 인원 미만인 날짜를 제외하고 정해진 순서로 정렬하는지
+ */
+class RoomAvailabilityTest {
+
+    private static final LocalTime DAY_START = LocalTime.of(9, 0);
+    private static final LocalTime DAY_END = LocalTime.of(18, 0);
+    private static final LocalDate MONDAY = LocalDate.of(2026, 10, 19);
+
+    @Test
+    void intervalsTouchingWindowEdgesAreIgnored() {
+        RoomAvailability availability = of(List.of(
+                time(1L, MONDAY, at(8, 0), at(9, 0)),
+                time(2L, MONDAY, at(18, 0), at(19, 0))));
+
+        assertThat(availability.findUnavailableMembers(MONDAY)).isEmpty();
+        assertThat(availability.findLongestAvailableSlot(MONDAY))
+                .contains(new RecommendList(MONDAY, DAY_START, DAY_END));
+    }
+
+    @Test
+    void intervalsCrossingWindowEdgesAreClipped() {
+        // 08:30 ~ 09:20 -> 09:00 ~ 09:20, 17:50 ~ 19:00 -> 17:50 ~ 18:00
+        RoomAvailability availability = of(List.of(
+                time(1L, MONDAY, at(8, 30), at(9, 20)),
+                time(2L, MONDAY, at(17, 50), at(19, 0))));
+
+        assertThat(availability.findUnavailableMembers(MONDAY)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(availability.findLongestAvailableSlot(MONDAY))
+                .contains(new RecommendList(MONDAY, at(9, 20), at(17, 50)));
+    }
+
+    @Test
+    void partiallyCoveredSlotIsUnavailableAsAWhole() {
+        // 09:05 ~ 09:15 -> 09:00 ~ 09:20 두 슬롯, 12:02 ~ 12:08 -> 12:00 ~ 12:10 한 슬롯
+        RoomAvailability availability = of(List.of(
+                time(1L, MONDAY, at(9, 5), at(9, 15)),
+                time(2L, MONDAY, at(12, 2), at(12, 8))));
+
+        assertThat(availability.findLongestAvailableSlot(MONDAY))
+                .contains(new RecommendList(MONDAY, at(12, 10), DAY_END));
+        assertThat(availability.findBestSlot(MONDAY, 2))
+                .contains(new RankedRecommendList(MONDAY, at(12, 10), DAY_END, 2, 2));
+    }
+
+    @Test
+    void lastSlotEndsAtDayEndWhenWindowIsNotAligned() {
+        // 09:00 ~ 17:55 -> 마지막 슬롯은 17:50 ~ 17:55 (5분)
+        RoomAvailability availability = RoomAvailability.of(DAY_START, at(17, 55),
+                List.of(time(1L, MONDAY, at(9, 0), at(17, 50))), List.of());
+
+        assertThat(availability.findLongestAvailableSlot(MONDAY))
+                .contains(new RecommendList(MONDAY, at(17, 50), at(17, 55)));
+    }
+
+    @Test
+    void datedScheduleStaysOnItsOwnDate() {
+        RoomAvailability availability = of(List.of(time(1L, MONDAY, at(17, 0), at(23, 59))));
+
+        assertThat(availability.findUnavailableMembers(MONDAY)).containsExactly(1L);
+        assertThat(availability.findUnavailableMembers(MONDAY.plusDays(1))).isEmpty();
+        assertThat(availability.findUnavailableMembers(MONDAY.minusDays(1))).isEmpty();
+    }
+
+    @Test
+    void weeklyRuleAppliesOnlyToItsDayOfWeek() {
+        RoomAvailability availability = RoomAvailability.of(DAY_START, DAY_END, List.of(),
+                List.of(rule(1L, DayType.MON, at(9, 0), at(12, 0))));
+
+        assertThat(availability.findUnavailableMembers(MONDAY)).containsExactly(1L);
+        assertThat(availability.findUnavailableMembers(MONDAY.plusWeeks(1))).containsExactly(1L);
+        assertThat(availability.findUnavailableMembers(MONDAY.plusDays(1))).isEmpty();
+        assertThat(availability.findLongestAvailableSlot(MONDAY))
+                .contains(new RecommendList(MONDAY, at(12, 0), DAY_END));
+        assertThat(availability.findLongestAvailableSlot(MONDAY.plusDays(1)))
+                .contains(new RecommendList(MONDAY.plusDays(1), DAY_START, DAY_END));
+    }
+
+    @Test
+    void weeklyRuleAndDatedScheduleOfSameMemberAreMergedPerMember() {
+        // 1번: 반복 규칙 09:00 ~ 12:00 + 해당 월요일 11:00 ~ 13:00 -> 겹치는 11:00 ~ 12:00도 1명으로 집계
+        // 2번: 13:00 ~ 15:00, 3번: 15:00 ~ 18:00 -> 하루 종일 정확히 1명씩 불가능
+        RoomAvailability availability = RoomAvailability.of(DAY_START, DAY_END, List.of(
+                time(1L, MONDAY, at(11, 0), at(13, 0)),
+                time(2L, MONDAY, at(13, 0), at(15, 0)),
+                time(3L, MONDAY, at(15, 0), at(18, 0))
+        ), List.of(rule(1L, DayType.MON, at(9, 0), at(12, 0))));
+
+        assertThat(availability.findUnavailableMembers(MONDAY)).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(availability.findLongestAvailableSlot(MONDAY)).isEmpty();
+        assertThat(availability.findBestSlot(MONDAY, 3))
+                .contains(new RankedRecommendList(MONDAY, DAY_START, DAY_END, 2, 3));
+
+        // 다음 주 월요일에는 반복 규칙만 남음
+        LocalDate nextMonday = MONDAY.plusWeeks(1);
+        assertThat(availability.findBestSlot(nextMonday, 3))
+                .contains(new RankedRecommendList(nextMonday, at(12, 0), DAY_END, 3, 3));
+    }
+
+    @Test
+    void replacingAndRemovingMembersKeepsSlotCountsConsistent() {
+        RoomAvailability availability = of(List.of(
+                time(1L, MONDAY, at(10, 0), at(11, 0)),
+                time(2L, MONDAY, at(10, 0), at(11, 0))));
+
+        // 같은 제출을 두 번 반영해도 결과가 같음
+        availability.replaceMember(1L, List.of(request(MONDAY, at(13, 0), at(14, 0))));
+        availability.replaceMember(1L, List.of(request(MONDAY, at(13, 0), at(14, 0))));
+        assertThat(availability.findBestSlot(MONDAY, 2))
+                .contains(new RankedRecommendList(MONDAY, at(14, 0), DAY_END, 2, 2));
+
+        availability.removeMember(1L);
+        availability.removeMember(2L);
+        assertThat(availability.findUnavailableMembers(MONDAY)).isEmpty();
+        assertThat(availability.findBestSlot(MONDAY, 2))
+                .contains(new RankedRecommendList(MONDAY, DAY_START, DAY_END, 2, 2));
+    }
+
+    @Test
+    void bestSlotsAreRankedByAvailableCountThenLengthThenDate() {
+        RoomAvailability availability = weekOfThreeMembers();
+
+        assertThat(availability.findBestSlots(week(), 3, 2, 10)).containsExactly(
+                new RankedRecommendList(MONDAY.plusDays(4), DAY_START, DAY_END, 3, 3),   // 금: 3명, 9시간
+                new RankedRecommendList(MONDAY.plusDays(5), DAY_START, DAY_END, 3, 3),   // 토: 3명, 9시간 (날짜 순)
+                new RankedRecommendList(MONDAY.plusDays(3), at(10, 0), DAY_END, 3, 3),   // 목: 3명, 8시간
+                new RankedRecommendList(MONDAY.plusDays(1), at(12, 0), DAY_END, 3, 3),   // 화: 3명, 6시간
+                new RankedRecommendList(MONDAY, DAY_START, DAY_END, 2, 3));              // 월: 2명
+    }
+
+    @Test
+    void bestSlotsBelowMinAvailableAreExcludedAndLimitIsApplied() {
+        RoomAvailability availability = weekOfThreeMembers();
+
+        // 수요일(1명)은 minAvailable=2 미만이라 제외
+        assertThat(availability.findBestSlots(week(), 3, 2, 10))
+                .extracting(RankedRecommendList::day)
+                .doesNotContain(MONDAY.plusDays(2));
+        assertThat(availability.findBestSlots(week(), 3, 1, 10))
+                .extracting(RankedRecommendList::day)
+                .contains(MONDAY.plusDays(2));
+
+        // 전원 참석 가능한 날짜만, 상위 2개
+        assertThat(availability.findBestSlots(week(), 3, 3, 2))
+                .extracting(RankedRecommendList::day)
+                .containsExactly(MONDAY.plusDays(4), MONDAY.plusDays(5));
+
+        // 전체 인원보다 많은 최소 인원은 만족하는 날짜가 없음
+        assertThat(availability.findBestSlots(week(), 3, 4, 10)).isEmpty();
+    }
+
+    /**
+     * 3명인 미팅룸의 월 ~ 토 일정
+     * 월: 1번 종일 불가 / 화: 1, 2번 09:00 ~ 12:00 불가 / 수: 1, 2번 종일 불가 / 목: 1번 09:00 ~ 10:00 불가 / 금, 토: 일정 없음
+     */
+    private static RoomAvailability weekOfThreeMembers() {
+        return of(List.of(
+                time(1L, MONDAY, DAY_START, DAY_END),
+                time(1L, MONDAY.plusDays(1), at(9, 0), at(12, 0)),
+                time(2L, MONDAY.plusDays(1), at(9, 0), at(12, 0)),
+                time(1L, MONDAY.plusDays(2), DAY_START, DAY_END),
+                time(2L, MONDAY.plusDays(2), DAY_START, DAY_END),
+                time(1L, MONDAY.plusDays(3), at(9, 0), at(10, 0))));
+    }
+
+    private static List<LocalDate> week() {
+        return MONDAY.datesUntil(MONDAY.plusDays(6)).toList();
+    }
+
+    private static RoomAvailability of(List<MemberUnavailableTime> times) {
+        return RoomAvailability.of(DAY_START, DAY_END, times, List.of());
+    }
+
+    private static MemberUnavailableTime time(Long userId, LocalDate date, LocalTime start, LocalTime end) {
+        return new MemberUnavailableTime(userId, date, start, end);
+    }
+
+    private static MemberWeeklyRule rule(Long userId, DayType dayType, LocalTime start, LocalTime end) {
+        return new MemberWeeklyRule(userId, dayType, start, end);
+    }
+
+    private static ScheduleRequest request(LocalDate date, LocalTime start, LocalTime end) {
+        return new ScheduleRequest(date, start, end);
+    }
+
+    private static LocalTime at(int hour, int minute) {
+        return LocalTime.of(hour, minute);
+    }
+}